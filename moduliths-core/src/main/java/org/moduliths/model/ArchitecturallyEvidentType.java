@@ -25,12 +25,12 @@ import lombok.Value;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -55,7 +55,7 @@ import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class ArchitecturallyEvidentType {
 
-	private static Map<Key, ArchitecturallyEvidentType> CACHE = new HashMap<>();
+	private static final Map<Key, ArchitecturallyEvidentType> CACHE = new ConcurrentHashMap<>();
 
 	private final @Getter JavaClass type;
 
@@ -87,6 +87,14 @@ public abstract class ArchitecturallyEvidentType {
 		});
 	}
 
+	/**
+	 * Drops all cached {@link ArchitecturallyEvidentType} instances. Invoked when {@link Modules} instances are evicted
+	 * so that the cache doesn't keep their type graphs reachable.
+	 */
+	static void clearCache() {
+		CACHE.clear();
+	}
+
 	/**
 	 * Returns the abbreviated (i.e. every package fragment reduced to its first character) full name.
 	 *
@@ -316,7 +324,7 @@ public abstract class ArchitecturallyEvidentType {
 		 */
 		@Override
 		public boolean isAggregateRoot() {
-			return isEntity() && beanTypes.that(SpringDataTypes.isSpringDataRepository()).stream() //
+			return isEntity() && SpringDataTypes.findRepositories(beanTypes).stream() //
 					.map(JavaClass::reflect) //
 					.map(AbstractRepositoryMetadata::getMetadata) //
 					.map(RepositoryMetadata::getDomainType) //
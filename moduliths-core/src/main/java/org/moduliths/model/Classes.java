@@ -15,18 +15,17 @@
  */
 package org.moduliths.model;
 
-import lombok.EqualsAndHashCode;
-import lombok.ToString;
-
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
-import java.util.stream.Collector;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -40,17 +39,38 @@ import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaModifier;
-import com.tngtech.archunit.core.domain.JavaType;
-import com.tngtech.archunit.core.domain.properties.HasName;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Supplier;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
 
 /**
+ * A set of {@link JavaClass}es, ordered by their name. Implemented as view on a shared, indexed universe of types so
+ * that membership checks are constant time and filtering and combining instances don't have to copy and re-sort the
+ * underlying types.
+ *
  * @author Oliver Gierke
+ * @author Oliver Drotbohm
  */
-@ToString
-@EqualsAndHashCode
 public class Classes implements DescribedIterable<JavaClass> {
 
-	private final List<JavaClass> classes;
+	private final Universe universe;
+	private final BitSet members;
+
+	private int hashCode;
+
+	/**
+	 * Creates a new {@link Classes} for the given {@link Universe} and members.
+	 *
+	 * @param universe must not be {@literal null}.
+	 * @param members must not be {@literal null}.
+	 */
+	private Classes(Universe universe, BitSet members) {
+
+		Assert.notNull(universe, "Universe must not be null!");
+		Assert.notNull(members, "Members must not be null!");
+
+		this.universe = universe;
+		this.members = members;
+	}
 
 	/**
 	 * Creates a new {@link Classes} for the given {@link JavaClass}es.
@@ -61,9 +81,8 @@ public class Classes implements DescribedIterable<JavaClass> {
 
 		Assert.notNull(classes, "JavaClasses must not be null!");
 
-		this.classes = classes.stream() //
-				.sorted(Comparator.comparing(JavaClass::getName)) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+		this.universe = new Universe(classes);
+		this.members = universe.all();
 	}
 
 	/**
@@ -79,41 +98,78 @@ public class Classes implements DescribedIterable<JavaClass> {
 	}
 
 	/**
-	 * Creates a new {@link Classes} for the given {@link JavaClass}es.
+	 * Returns {@link Classes} that match the given {@link DescribedPredicate}.
 	 *
-	 * @param classes must not be {@literal null}.
+	 * @param predicate must not be {@literal null}.
+	 * @return
+	 */
+	Classes that(DescribedPredicate<? super JavaClass> predicate) {
+
+		Assert.notNull(predicate, "Predicate must not be null!");
+
+		BitSet result = new BitSet(universe.size());
+
+		for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+			if (predicate.apply(universe.get(i))) {
+				result.set(i);
+			}
+		}
+
+		return new Classes(universe, result);
+	}
+
+	/**
+	 * Returns {@link Classes} that are annotated or meta-annotated with the annotation of the given name. Resolved from
+	 * an index built once for all types known to the current instance.
+	 *
+	 * @param type must not be {@literal null} or empty.
 	 * @return will never be {@literal null}.
 	 */
-	static Classes of(List<JavaClass> classes) {
-		return new Classes(classes);
+	Classes thatAreAnnotatedWith(String type) {
+
+		Assert.hasText(type, "Annotation type must not be null or empty!");
+
+		return restrictTo(universe.getIndex().getAnnotatedOrMetaAnnotatedWith(type));
 	}
 
 	/**
-	 * Returns a {@link Collector} creating a {@link Classes} instance from a {@link Stream} of {@link JavaType}.
+	 * Returns {@link Classes} that are directly annotated with the annotation of the given name.
 	 *
+	 * @param type must not be {@literal null} or empty.
 	 * @return will never be {@literal null}.
 	 */
-	static Collector<JavaClass, ?, Classes> toClasses() {
-		return Collectors.collectingAndThen(Collectors.toList(), Classes::of);
+	Classes thatAreDirectlyAnnotatedWith(String type) {
+
+		Assert.hasText(type, "Annotation type must not be null or empty!");
+
+		return restrictTo(universe.getIndex().getAnnotatedWith(type));
 	}
 
 	/**
-	 * Returns {@link Classes} that match the given {@link DescribedPredicate}.
+	 * Returns {@link Classes} that are assignable to the type with the given name.
 	 *
-	 * @param predicate must not be {@literal null}.
-	 * @return
+	 * @param type must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
 	 */
-	Classes that(DescribedPredicate<? super JavaClass> predicate) {
+	Classes thatAreAssignableTo(String type) {
 
-		Assert.notNull(predicate, "Predicate must not be null!");
+		Assert.hasText(type, "Type must not be null or empty!");
 
-		return classes.stream() //
-				.filter((Predicate<JavaClass>) it -> predicate.apply(it)) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Classes::new));
+		return restrictTo(universe.getIndex().getAssignableTo(type));
 	}
 
 	Classes and(Classes classes) {
-		return and(classes.classes);
+
+		Assert.notNull(classes, "Classes must not be null!");
+
+		if (universe != classes.universe) {
+			return and(classes.stream().collect(Collectors.toList()));
+		}
+
+		BitSet result = (BitSet) members.clone();
+		result.or(classes.members);
+
+		return new Classes(universe, result);
 	}
 
 	/**
@@ -130,43 +186,106 @@ public class Classes implements DescribedIterable<JavaClass> {
 			return this;
 		}
 
-		List<JavaClass> result = new ArrayList<>(classes);
+		BitSet result = (BitSet) members.clone();
+		List<JavaClass> foreign = new ArrayList<>();
+
+		for (JavaClass other : others) {
+
+			int index = universe.indexOf(other.getName());
+
+			if (index < 0) {
+				foreign.add(other);
+			} else {
+				result.set(index);
+			}
+		}
+
+		if (foreign.isEmpty()) {
+			return new Classes(universe, result);
+		}
+
+		// Types outside the current universe require a new one
+		List<JavaClass> combined = new ArrayList<>(result.cardinality() + foreign.size());
+
+		for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+			combined.add(universe.get(i));
+		}
+
+		combined.addAll(foreign);
+
+		return new Classes(combined);
+	}
+
+	/**
+	 * Returns {@link Classes} containing the given types that are part of the current instance. Shares the universe of
+	 * the current instance, types not contained in it are dropped.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Classes restrictTo(Collection<JavaClass> types) {
+
+		Assert.notNull(types, "Types must not be null!");
+
+		BitSet result = new BitSet(universe.size());
+
+		for (JavaClass type : types) {
+
+			int index = universe.indexOf(type.getName());
 
-		others.forEach(it -> {
-			if (!result.contains(it)) {
-				result.add(it);
+			if (index >= 0 && members.get(index)) {
+				result.set(index);
 			}
-		});
+		}
+
+		return new Classes(universe, result);
+	}
+
+	private Classes restrictTo(BitSet candidates) {
+
+		BitSet result = (BitSet) members.clone();
+		result.and(candidates);
 
-		return new Classes(result);
+		return new Classes(universe, result);
 	}
 
 	public Stream<JavaClass> stream() {
-		return classes.stream();
+		return members.stream().mapToObj(universe::get);
 	}
 
 	boolean isEmpty() {
-		return !classes.iterator().hasNext();
+		return members.isEmpty();
 	}
 
 	Optional<JavaClass> toOptional() {
-		return isEmpty() ? Optional.empty() : Optional.of(classes.iterator().next());
+		return isEmpty() ? Optional.empty() : Optional.of(universe.get(members.nextSetBit(0)));
 	}
 
 	boolean contains(JavaClass type) {
-		return !that(new SameClass(type)).isEmpty();
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return contains(type.getName());
 	}
 
 	boolean contains(String className) {
-		return !that(HasName.Predicates.name(className)).isEmpty();
+
+		int index = universe.indexOf(className);
+
+		return index >= 0 && members.get(index);
 	}
 
 	JavaClass getRequiredClass(Class<?> type) {
 
-		return classes.stream() //
-				.filter(it -> it.isEquivalentTo(type)) //
-				.findFirst() //
-				.orElseThrow(() -> new IllegalArgumentException(String.format("No JavaClass found for type %s!", type)));
+		Assert.notNull(type, "Type must not be null!");
+
+		int index = universe.indexOf(type.getName());
+
+		if (index < 0 || !members.get(index)) {
+			throw new IllegalArgumentException(String.format("No JavaClass found for type %s!", type));
+		}
+
+		return universe.get(index);
 	}
 
 	/*
@@ -184,17 +303,17 @@ public class Classes implements DescribedIterable<JavaClass> {
 	 */
 	@Override
 	public Iterator<JavaClass> iterator() {
-		return classes.iterator();
+		return stream().iterator();
 	}
 
 	String format() {
-		return classes.stream() //
+		return stream() //
 				.map(Classes::format) //
 				.collect(Collectors.joining("\n"));
 	}
 
 	String format(String basePackage) {
-		return classes.stream() //
+		return stream() //
 				.map(it -> Classes.format(it, basePackage)) //
 				.collect(Collectors.joining("\n"));
 	}
@@ -216,22 +335,175 @@ public class Classes implements DescribedIterable<JavaClass> {
 		return String.format("    %s %s", prefix, name);
 	}
 
-	private static class SameClass extends DescribedPredicate<JavaClass> {
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(@Nullable Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Classes)) {
+			return false;
+		}
+
+		Classes that = (Classes) obj;
+
+		return universe == that.universe //
+				? members.equals(that.members) //
+				: toList().equals(that.toList());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = hashCode;
+
+		if (result == 0) {
+			result = toList().hashCode();
+			this.hashCode = result;
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "Classes(classes=" + toList() + ")";
+	}
+
+	private List<JavaClass> toList() {
+		return stream().collect(Collectors.toList());
+	}
+
+	/**
+	 * All types known to a set of {@link Classes} instances, sorted by name and indexed by their position.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Universe {
+
+		private final JavaClass[] types;
+		private final Map<String, Integer> indexes;
+		private final Supplier<Index> index;
+
+		Universe(Collection<JavaClass> types) {
+
+			Map<String, JavaClass> byName = new TreeMap<>();
+			types.forEach(it -> byName.putIfAbsent(it.getName(), it));
+
+			this.types = byName.values().toArray(new JavaClass[byName.size()]);
+			this.indexes = new HashMap<>(this.types.length * 2);
+
+			for (int i = 0; i < this.types.length; i++) {
+				indexes.put(this.types[i].getName(), i);
+			}
+
+			this.index = Suppliers.memoize(() -> new Index(this.types));
+		}
+
+		int size() {
+			return types.length;
+		}
+
+		JavaClass get(int index) {
+			return types[index];
+		}
+
+		int indexOf(String name) {
+
+			Integer index = indexes.get(name);
+
+			return index == null ? -1 : index;
+		}
+
+		BitSet all() {
+
+			BitSet result = new BitSet(types.length);
+			result.set(0, types.length);
+
+			return result;
+		}
+
+		Index getIndex() {
+			return index.get();
+		}
+	}
+
+	/**
+	 * Inverted index of the types of a {@link Universe} by the annotations they carry and the types they're assignable
+	 * to.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Index {
+
+		private static final BitSet NONE = new BitSet();
+
+		private final Map<String, BitSet> annotated = new HashMap<>();
+		private final Map<String, BitSet> annotatedOrMetaAnnotated = new HashMap<>();
+		private final Map<String, BitSet> assignable = new HashMap<>();
+
+		Index(JavaClass[] types) {
+
+			for (int i = 0; i < types.length; i++) {
+
+				JavaClass type = types[i];
+				int index = i;
+
+				type.getAnnotations().forEach(it -> {
+
+					JavaClass annotationType = it.getRawType();
+
+					register(annotated, annotationType.getName(), index);
+					register(annotatedOrMetaAnnotated, annotationType.getName(), index);
+					registerMetaAnnotations(annotationType, index, new HashSet<>());
+				});
+
+				register(assignable, type.getName(), index);
+				type.getAllRawSuperclasses().forEach(it -> register(assignable, it.getName(), index));
+				type.getAllRawInterfaces().forEach(it -> register(assignable, it.getName(), index));
+			}
+		}
+
+		BitSet getAnnotatedWith(String type) {
+			return annotated.getOrDefault(type, NONE);
+		}
+
+		BitSet getAnnotatedOrMetaAnnotatedWith(String type) {
+			return annotatedOrMetaAnnotated.getOrDefault(type, NONE);
+		}
+
+		BitSet getAssignableTo(String type) {
+			return assignable.getOrDefault(type, NONE);
+		}
+
+		private void registerMetaAnnotations(JavaClass annotationType, int index, Set<String> visited) {
+
+			annotationType.getAnnotations().forEach(it -> {
 
-		private final JavaClass reference;
+				JavaClass metaAnnotationType = it.getRawType();
 
-		public SameClass(JavaClass reference) {
-			super(" is the same class as ");
-			this.reference = reference;
+				if (visited.add(metaAnnotationType.getName())) {
+					register(annotatedOrMetaAnnotated, metaAnnotationType.getName(), index);
+					registerMetaAnnotations(metaAnnotationType, index, visited);
+				}
+			});
 		}
 
-		/*
-		 * (non-Javadoc)
-		 * @see com.tngtech.archunit.base.DescribedPredicate#apply(java.lang.Object)
-		 */
-		@Override
-		public boolean apply(@Nullable JavaClass input) {
-			return input != null && reference.getName().equals(input.getName());
+		private static void register(Map<String, BitSet> index, String key, int position) {
+			index.computeIfAbsent(key, __ -> new BitSet()).set(position);
 		}
 	}
 }
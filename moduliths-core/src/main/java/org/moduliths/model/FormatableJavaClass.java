@@ -49,6 +49,13 @@ public class FormatableJavaClass {
 		return CACHE.computeIfAbsent(type, FormatableJavaClass::new);
 	}
 
+	/**
+	 * Drops all cached wrappers. Called alongside the eviction of {@link Modules} instances.
+	 */
+	static void clearCache() {
+		CACHE.clear();
+	}
+
 	private FormatableJavaClass(JavaClass type) {
 
 		Assert.notNull(type, "JavaClass must not be null!");
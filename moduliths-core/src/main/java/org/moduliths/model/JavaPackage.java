@@ -33,7 +33,6 @@ import java.util.stream.Stream;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
 import com.tngtech.archunit.thirdparty.com.google.common.base.Supplier;
 import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
 
@@ -115,8 +114,8 @@ public class JavaPackage implements DescribedIterable<JavaClass> {
 
 	public Stream<JavaPackage> getSubPackagesAnnotatedWith(Class<? extends Annotation> annotation) {
 
-		return packageClasses.that(JavaClass.Predicates.simpleName(PACKAGE_INFO_NAME) //
-				.and(CanBeAnnotated.Predicates.annotatedWith(annotation))).stream() //
+		return packageClasses.thatAreDirectlyAnnotatedWith(annotation.getName()) //
+				.that(simpleName(PACKAGE_INFO_NAME)).stream() //
 				.map(JavaClass::getPackageName) //
 				.distinct() //
 				.map(it -> of(classes, it));
@@ -126,6 +125,26 @@ public class JavaPackage implements DescribedIterable<JavaClass> {
 		return packageClasses.that(predicate);
 	}
 
+	/**
+	 * Returns all {@link Classes} of the package that are annotated or meta-annotated with the given annotation type.
+	 *
+	 * @param annotationType must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Classes thatAreAnnotatedWith(String annotationType) {
+		return packageClasses.thatAreAnnotatedWith(annotationType);
+	}
+
+	/**
+	 * Returns all {@link Classes} of the package that are assignable to the given type.
+	 *
+	 * @param type must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Classes thatAreAssignableTo(String type) {
+		return packageClasses.thatAreAssignableTo(type);
+	}
+
 	public boolean contains(JavaClass type) {
 		return packageClasses.contains(type);
 	}
@@ -140,8 +159,8 @@ public class JavaPackage implements DescribedIterable<JavaClass> {
 
 	public <A extends Annotation> Optional<A> getAnnotation(Class<A> annotationType) {
 
-		return packageClasses.that(JavaClass.Predicates.simpleName(PACKAGE_INFO_NAME) //
-				.and(CanBeAnnotated.Predicates.annotatedWith(annotationType))) //
+		return packageClasses.thatAreDirectlyAnnotatedWith(annotationType.getName()) //
+				.that(simpleName(PACKAGE_INFO_NAME)) //
 				.toOptional() //
 				.map(it -> it.getAnnotationOfType(annotationType));
 	}
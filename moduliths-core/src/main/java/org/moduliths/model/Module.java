@@ -15,10 +15,7 @@
  */
 package org.moduliths.model;
 
-import static com.tngtech.archunit.base.DescribedPredicate.*;
-import static com.tngtech.archunit.core.domain.JavaClass.Predicates.*;
 import static java.lang.System.*;
-import static org.moduliths.model.Classes.*;
 import static org.moduliths.model.Types.*;
 import static org.moduliths.model.Types.JavaXTypes.*;
 import static org.moduliths.model.Types.SpringDataTypes.*;
@@ -93,14 +90,21 @@ public class Module {
 		return information.getDisplayName();
 	}
 
+	/**
+	 * Returns all modules the current one depends on with any of the given {@link DependencyType}s or with any type if
+	 * none given.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see Modules#getDependencyGraph()
+	 */
 	public List<Module> getDependencies(Modules modules, DependencyType... type) {
 
-		return getAllModuleDependencies(modules) //
-				.filter(it -> type.length == 0 ? true : Arrays.stream(type).anyMatch(it::hasType)) //
-				.map(it -> modules.getModuleByType(it.target)) //
-				.distinct() //
-				.flatMap(it -> it.map(Stream::of).orElseGet(Stream::empty)) //
-				.collect(Collectors.toList());
+		Assert.notNull(modules, "Modules must not be null!");
+		Assert.notNull(type, "Dependency types must not be null!");
+
+		return modules.getDependencyGraph().getDependencies(this, type);
 	}
 
 	/**
@@ -113,10 +117,7 @@ public class Module {
 
 		Assert.notNull(modules, "Modules must not be null!");
 
-		return getAllModuleDependencies(modules) //
-				.filter(it -> it.type == DependencyType.EVENT_LISTENER) //
-				.map(ModuleDependency::getTarget) //
-				.collect(Collectors.toList());
+		return modules.getDependencyGraph().getEventsListenedTo(this);
 	}
 
 	/**
@@ -350,10 +351,7 @@ public class Module {
 
 	private List<EventType> findPublishedEvents() {
 
-		DescribedPredicate<JavaClass> isEvent = implement(JMoleculesTypes.DOMAIN_EVENT) //
-				.or(isAnnotatedWith(JMoleculesTypes.AT_DOMAIN_EVENT));
-
-		return basePackage.that(isEvent).stream() //
+		return JMoleculesTypes.findDomainEvents(basePackage.getClasses()).stream() //
 				.map(EventType::new)
 				.collect(Collectors.toList());
 	}
@@ -374,29 +372,29 @@ public class Module {
 				Stream.of(type));
 	}
 
-	private Stream<ModuleDependency> getAllModuleDependencies(Modules modules) {
+	/**
+	 * Returns all dependencies of the module's types to types of other modules.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Stream<ModuleDependency> getAllModuleDependencies(Modules modules) {
 
 		return basePackage.stream() //
 				.flatMap(it -> getModuleDependenciesOf(it, modules));
 	}
 
 	private Stream<Module> streamDependencies(Modules modules, DependencyDepth depth) {
-
-		switch (depth) {
-
-			case NONE:
-				return Stream.empty();
-			case IMMEDIATE:
-				return getDirectModuleDependencies(modules);
-			case ALL:
-			default:
-				return getDirectModuleDependencies(modules) //
-						.flatMap(it -> Stream.concat(Stream.of(it), it.streamDependencies(modules, DependencyDepth.ALL))) //
-						.distinct();
-		}
+		return modules.getDependencyGraph().getBootstrapDependencies(this, depth);
 	}
 
-	private Stream<Module> getDirectModuleDependencies(Modules modules) {
+	/**
+	 * Returns all modules containing types the module's Spring beans depend on.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Stream<Module> getDirectModuleDependencies(Modules modules) {
 
 		return getSpringBeansInternal().stream() //
 				.flatMap(it -> ModuleDependency.fromType(it)) //
@@ -424,23 +422,25 @@ public class Module {
 
 	private Classes findEntities(JavaPackage source) {
 
-		return source.stream() //
-				.map(it -> ArchitecturallyEvidentType.of(it, getSpringBeansInternal()))
-				.filter(ArchitecturallyEvidentType::isEntity) //
-				.map(ArchitecturallyEvidentType::getType).collect(toClasses());
+		Classes beans = getSpringBeansInternal();
+
+		return source.that(DescribedPredicate.describe("entities", //
+				it -> ArchitecturallyEvidentType.of(it, beans).isEntity()));
 	}
 
 	private static Classes filterSpringBeans(JavaPackage source) {
 
-		Map<Boolean, List<JavaClass>> collect = source.that(isConfiguration()).stream() //
+		Classes classes = source.getClasses();
+
+		Map<Boolean, List<JavaClass>> collect = findConfigurations(classes).stream() //
 				.flatMap(it -> it.getMethods().stream()) //
 				.filter(SpringTypes::isAtBeanMethod) //
 				.map(JavaMethod::getRawReturnType) //
 				.collect(Collectors.groupingBy(it -> source.contains(it)));
 
-		Classes repositories = source.that(isSpringDataRepository());
-		Classes coreComponents = source.that(not(INTERFACES).and(isComponent()));
-		Classes configurationProperties = source.that(isConfigurationProperties());
+		Classes repositories = findRepositories(classes);
+		Classes coreComponents = findComponents(classes);
+		Classes configurationProperties = findConfigurationProperties(classes);
 
 		return coreComponents //
 				.and(repositories) //
@@ -470,8 +470,8 @@ public class Module {
 				AT_AUTOWIRED, AT_RESOURCE, AT_INJECT);
 
 		private final @NonNull @Getter JavaClass origin, target;
-		private final @NonNull String description;
-		private final @NonNull DependencyType type;
+		private final @NonNull @Getter String description;
+		private final @NonNull @Getter DependencyType type;
 
 		ModuleDependency(Dependency dependency) {
 			this(dependency.getOriginClass(), //
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.moduliths.model.Module.DependencyDepth;
+import org.moduliths.model.Module.DependencyType;
+import org.moduliths.model.Module.ModuleDependency;
+import org.springframework.util.Assert;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Supplier;
+import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
+
+/**
+ * The dependencies between the {@link Module}s of a {@link Modules} instance, calculated once and consisting of typed
+ * {@link Edge}s for every type level dependency between two modules as well as the direct and transitive bootstrap
+ * dependencies of each module.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.4
+ * @see Modules#getDependencyGraph()
+ */
+public class ModuleDependencyGraph {
+
+	private final Modules modules;
+	private final Supplier<Map<String, List<Edge>>> edges;
+	private final Supplier<Map<String, Integer>> indexes;
+	private final Map<String, List<Module>> directBootstrapDependencies;
+	private final Map<String, List<Module>> allBootstrapDependencies;
+
+	private ModuleDependencyGraph(Modules modules) {
+
+		this.modules = modules;
+		this.edges = Suppliers.memoize(() -> Parallelism.execute(() -> Parallelism.apply(modules.stream()) //
+				.collect(Collectors.toMap(Module::getName, it -> calculateEdges(it, modules)))));
+
+		this.indexes = Suppliers.memoize(() -> {
+
+			List<Module> all = modules.stream().collect(Collectors.toList());
+			Map<String, Integer> result = new HashMap<>(all.size() * 2);
+
+			for (int i = 0; i < all.size(); i++) {
+				result.put(all.get(i).getName(), i);
+			}
+
+			return result;
+		});
+
+		this.directBootstrapDependencies = new ConcurrentHashMap<>();
+		this.allBootstrapDependencies = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Creates the {@link ModuleDependencyGraph} for the given {@link Modules}. The individual parts of the graph are
+	 * calculated on first access and kept for subsequent ones.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ModuleDependencyGraph of(Modules modules) {
+
+		Assert.notNull(modules, "Modules must not be null!");
+
+		return new ModuleDependencyGraph(modules);
+	}
+
+	/**
+	 * Returns all {@link Edge}s originating from the given {@link Module}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Stream<Edge> getEdges(Module module) {
+
+		Assert.notNull(module, "Module must not be null!");
+
+		return edges.get().getOrDefault(module.getName(), Collections.emptyList()).stream();
+	}
+
+	/**
+	 * Returns all modules the given one depends on with any of the given {@link DependencyType}s or with any type if
+	 * none given.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param types must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public List<Module> getDependencies(Module module, DependencyType... types) {
+
+		Assert.notNull(types, "Dependency types must not be null!");
+
+		return getEdges(module) //
+				.filter(it -> types.length == 0 || Arrays.stream(types).anyMatch(it::hasType)) //
+				.map(Edge::getTarget) //
+				.distinct() //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns all event types the given {@link Module} exposes an event listener for.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public List<JavaClass> getEventsListenedTo(Module module) {
+
+		return getEdges(module) //
+				.filter(it -> it.hasType(DependencyType.EVENT_LISTENER)) //
+				.map(Edge::getTargetType) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the modules that need to be bootstrapped alongside the given one for the given {@link DependencyDepth}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param depth must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Stream<Module> getBootstrapDependencies(Module module, DependencyDepth depth) {
+
+		Assert.notNull(module, "Module must not be null!");
+		Assert.notNull(depth, "Dependency depth must not be null!");
+
+		switch (depth) {
+
+			case NONE:
+				return Stream.empty();
+			case IMMEDIATE:
+				return getDirectBootstrapDependencies(module).stream();
+			case ALL:
+			default:
+				return allBootstrapDependencies
+						.computeIfAbsent(module.getName(), __ -> calculateAllBootstrapDependencies(module)).stream();
+		}
+	}
+
+	private List<Module> getDirectBootstrapDependencies(Module module) {
+
+		return directBootstrapDependencies.computeIfAbsent(module.getName(),
+				__ -> module.getDirectModuleDependencies(modules) //
+						.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
+	}
+
+	/**
+	 * Calculates all modules transitively reachable from the given one, tracking the modules already reached in a
+	 * {@link BitSet} over the module indexes. Every module is thus only visited once, even in case of diamond shaped or
+	 * cyclic dependencies. The result lists the direct dependencies first, followed by the transitive ones in
+	 * breadth-first order and never contains the source module itself.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private List<Module> calculateAllBootstrapDependencies(Module source) {
+
+		Map<String, Integer> indexes = this.indexes.get();
+
+		BitSet reached = new BitSet(indexes.size());
+		Integer sourceIndex = indexes.get(source.getName());
+
+		if (sourceIndex != null) {
+			reached.set(sourceIndex);
+		}
+
+		List<Module> result = new ArrayList<>();
+		Deque<Module> queue = new ArrayDeque<>(getDirectBootstrapDependencies(source));
+
+		while (!queue.isEmpty()) {
+
+			Module candidate = queue.poll();
+			Integer index = indexes.get(candidate.getName());
+
+			if (index == null || reached.get(index)) {
+				continue;
+			}
+
+			reached.set(index);
+			result.add(candidate);
+			queue.addAll(getDirectBootstrapDependencies(candidate));
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+	private static List<Edge> calculateEdges(Module module, Modules modules) {
+
+		return module.getAllModuleDependencies(modules) //
+				.flatMap(dependency -> modules.getModuleByType(dependency.getTarget()) //
+						.map(target -> Stream.of(new Edge(module, target, dependency))) //
+						.orElseGet(Stream::empty)) //
+				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+	}
+
+	/**
+	 * A type level dependency from one {@link Module} to another.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class Edge {
+
+		private final @Getter Module source, target;
+		private final ModuleDependency dependency;
+
+		/**
+		 * Returns the {@link DependencyType} of the underlying type dependency.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public DependencyType getType() {
+			return dependency.getType();
+		}
+
+		/**
+		 * Returns whether the edge is of the given {@link DependencyType}.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public boolean hasType(DependencyType type) {
+			return dependency.hasType(type);
+		}
+
+		/**
+		 * Returns the type within the source module the dependency originates from.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public JavaClass getOriginType() {
+			return dependency.getOrigin();
+		}
+
+		/**
+		 * Returns the type within the target module depended on.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public JavaClass getTargetType() {
+			return dependency.getTarget();
+		}
+
+		/**
+		 * Returns a human readable description of the dependency.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getDescription() {
+			return dependency.getDescription();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return dependency.toString();
+		}
+	}
+}
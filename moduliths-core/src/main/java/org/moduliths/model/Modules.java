@@ -26,7 +26,11 @@ import lombok.Value;
 import lombok.With;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,9 +57,11 @@ import com.tngtech.archunit.library.dependencies.SlicesRuleDefinition;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Modules implements Iterable<Module> {
 
-	private static final Map<CacheKey, Modules> CACHE = new HashMap<>();
+	private static final int MAX_CACHE_SIZE = 32;
+	private static final Cache CACHE = new Cache(MAX_CACHE_SIZE);
 
 	private static final ModuleDetectionStrategy DETECTION_STRATEGY;
+	private static final VerificationCache VERIFICATION_CACHE = VerificationCache.fromSystemProperties();
 
 	static {
 
@@ -74,11 +80,13 @@ public class Modules implements Iterable<Module> {
 
 	private final ModulithMetadata metadata;
 	private final Map<String, Module> modules;
+	private final TypeIndex types;
 	private final JavaClasses allClasses;
 	private final List<JavaPackage> rootPackages;
 	private final @With(AccessLevel.PRIVATE) @Getter Set<Module> sharedModules;
 
-	private boolean verified;
+	private volatile boolean verified;
+	private volatile ModuleDependencyGraph dependencyGraph;
 
 	private Modules(ModulithMetadata metadata, Collection<String> packages, DescribedPredicate<JavaClass> ignored,
 			boolean useFullyQualifiedModuleNames) {
@@ -91,11 +99,17 @@ public class Modules implements Iterable<Module> {
 
 		Classes classes = Classes.of(allClasses);
 
-		this.modules = packages.stream() //
-				.map(it -> JavaPackage.of(classes, it))
+		// Module detection and creation is independent per package and thus executed in parallel
+		List<JavaPackage> basePackages = Parallelism.execute(() -> Parallelism.apply(packages.stream()) //
+				.map(it -> JavaPackage.of(classes, it)) //
 				.flatMap(DETECTION_STRATEGY::getModuleBasePackages) //
+				.collect(Collectors.toList()));
+
+		this.modules = Parallelism.execute(() -> Parallelism.apply(basePackages.stream()) //
 				.map(it -> new Module(it, useFullyQualifiedModuleNames)) //
-				.collect(toMap(Module::getName, Function.identity()));
+				.collect(toMap(Module::getName, Function.identity())));
+
+		this.types = TypeIndex.of(modules.values());
 
 		this.rootPackages = packages.stream() //
 				.map(it -> JavaPackage.of(classes, it).toSingle()) //
@@ -129,7 +143,7 @@ public class Modules implements Iterable<Module> {
 
 		CacheKey key = TypeKey.of(modulithType, ignored);
 
-		return CACHE.computeIfAbsent(key, it -> {
+		return CACHE.get(key, it -> {
 
 			Assert.notNull(modulithType, "Modulith root type must not be null!");
 			Assert.notNull(ignored, "Predicate to describe ignored types must not be null!");
@@ -161,7 +175,7 @@ public class Modules implements Iterable<Module> {
 
 		CacheKey key = PackageKey.of(javaPackage, ignored);
 
-		return CACHE.computeIfAbsent(key, it -> {
+		return CACHE.get(key, it -> {
 
 			Assert.hasText(javaPackage, "Base package must not be null or empty!");
 			Assert.notNull(ignored, "Predicate to describe ignored types must not be null!");
@@ -196,6 +210,50 @@ public class Modules implements Iterable<Module> {
 		return modules.withSharedModules(sharedModules);
 	}
 
+	/**
+	 * Returns the {@link ModuleDetectionStrategy} in use.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static ModuleDetectionStrategy getDetectionStrategy() {
+		return DETECTION_STRATEGY;
+	}
+
+	/**
+	 * Evicts all cached {@link Modules} instances created for the given modulith type.
+	 *
+	 * @param modulithType must not be {@literal null}.
+	 * @since 1.4
+	 */
+	public static void evict(Class<?> modulithType) {
+
+		Assert.notNull(modulithType, "Modulith root type must not be null!");
+
+		CACHE.evict(it -> it instanceof TypeKey && ((TypeKey) it).getType().equals(modulithType));
+	}
+
+	/**
+	 * Evicts all cached {@link Modules} instances created for the given package name.
+	 *
+	 * @param javaPackage must not be {@literal null} or empty.
+	 * @since 1.4
+	 */
+	public static void evict(String javaPackage) {
+
+		Assert.hasText(javaPackage, "Base package must not be null or empty!");
+
+		CACHE.evict(it -> it instanceof PackageKey && ((PackageKey) it).getBasePackage().equals(javaPackage));
+	}
+
+	/**
+	 * Evicts all cached {@link Modules} instances.
+	 *
+	 * @since 1.4
+	 */
+	public static void clearCache() {
+		CACHE.evict(it -> true);
+	}
+
 	public Object getModulithSource() {
 		return metadata.getModulithSource();
 	}
@@ -227,8 +285,7 @@ public class Modules implements Iterable<Module> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return modules.values().stream() //
-				.anyMatch(module -> module.contains(type));
+		return types.getModuleByFullName(type.getName()).isPresent();
 	}
 
 	/**
@@ -268,9 +325,7 @@ public class Modules implements Iterable<Module> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return modules.values().stream() //
-				.filter(it -> it.contains(type)) //
-				.findFirst();
+		return types.getModuleByFullName(type.getName());
 	}
 
 	/**
@@ -284,9 +339,9 @@ public class Modules implements Iterable<Module> {
 
 		Assert.hasText(candidate, "Candidate must not be null or empty!");
 
-		return modules.values().stream() //
-				.filter(it -> it.contains(candidate)) //
-				.findFirst();
+		Optional<Module> module = types.getModuleByFullName(candidate);
+
+		return module.isPresent() ? module : types.getModuleBySimpleName(candidate);
 	}
 
 	public Optional<Module> getModuleForPackage(String name) {
@@ -296,6 +351,32 @@ public class Modules implements Iterable<Module> {
 				.findFirst();
 	}
 
+	/**
+	 * Returns the {@link ModuleDependencyGraph} of all {@link Module}s, calculated on first access.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.4
+	 */
+	public ModuleDependencyGraph getDependencyGraph() {
+
+		ModuleDependencyGraph result = dependencyGraph;
+
+		if (result == null) {
+
+			synchronized (this) {
+
+				result = dependencyGraph;
+
+				if (result == null) {
+					result = ModuleDependencyGraph.of(this);
+					this.dependencyGraph = result;
+				}
+			}
+		}
+
+		return result;
+	}
+
 	public void verify() {
 
 		if (verified) {
@@ -311,24 +392,45 @@ public class Modules implements Iterable<Module> {
 
 	public Violations detectViolations() {
 
-		Violations violations = rootPackages.stream() //
-				.map(this::assertNoCyclesFor) //
-				.flatMap(it -> it.getDetails().stream()) //
+		Optional<ModulesFingerprint> fingerprint = VERIFICATION_CACHE.isEnabled() //
+				? ModulesFingerprint.of(this, allClasses) //
+				: Optional.empty();
+
+		return VERIFICATION_CACHE.get(fingerprint.map(ModulesFingerprint::getKey).orElse(null),
+				() -> detectViolations(fingerprint));
+	}
+
+	private Violations detectViolations(Optional<ModulesFingerprint> fingerprint) {
+
+		List<Supplier<Violations>> checks = new ArrayList<>();
+
+		rootPackages.forEach(it -> checks.add(() -> assertNoCyclesFor(it).getDetails().stream() //
 				.map(IllegalStateException::new) //
-				.collect(Violations.toViolations());
+				.collect(Violations.toViolations())));
 
 		if (JMoleculesTypes.areRulesPresent()) {
 
-			EvaluationResult result = JMoleculesDddRules.all().evaluate(allClasses);
+			checks.add(() -> {
 
-			for (String message : result.getFailureReport().getDetails()) {
-				violations = violations.and(message);
-			}
+				EvaluationResult result = JMoleculesDddRules.all().evaluate(allClasses);
+				Violations violations = Violations.NONE;
+
+				for (String message : result.getFailureReport().getDetails()) {
+					violations = violations.and(message);
+				}
+
+				return violations;
+			});
 		}
 
-		return modules.values().stream() //
-				.map(it -> it.detectDependencies(this)) //
-				.reduce(violations, Violations::and);
+		// Only re-verify modules whose types or overall structure have changed
+		modules.values().forEach(it -> checks.add(() -> VERIFICATION_CACHE
+				.get(fingerprint.map(key -> key.getKey(it)).orElse(null), () -> it.detectDependencies(this))));
+
+		// Checks are independent, ordered reduction keeps the report stable
+		return Parallelism.execute(() -> Parallelism.apply(checks.stream()) //
+				.map(Supplier::get) //
+				.reduce(Violations.NONE, Violations::and));
 	}
 
 	private FailureReport assertNoCyclesFor(JavaPackage rootPackage) {
@@ -399,6 +501,173 @@ public class Modules implements Iterable<Module> {
 		}
 	}
 
+	/**
+	 * Index of the types contained in {@link Module}s by their fully-qualified and simple name. Built once so that type
+	 * lookups, which happen for every dependency during verification, don't have to scan all modules and their types.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class TypeIndex {
+
+		private final Map<String, Module> byFullName = new HashMap<>();
+		private final Map<String, Module> bySimpleName = new HashMap<>();
+
+		/**
+		 * Creates a new {@link TypeIndex} for the given {@link Module}s. In case a type is contained in multiple modules,
+		 * the first one wins.
+		 *
+		 * @param modules must not be {@literal null}.
+		 */
+		private TypeIndex(Collection<Module> modules) {
+
+			Assert.notNull(modules, "Modules must not be null!");
+
+			for (Module module : modules) {
+				module.getBasePackage().stream().forEach(it -> {
+					byFullName.putIfAbsent(it.getFullName(), module);
+					bySimpleName.putIfAbsent(it.getSimpleName(), module);
+				});
+			}
+		}
+
+		static TypeIndex of(Collection<Module> modules) {
+			return new TypeIndex(modules);
+		}
+
+		Optional<Module> getModuleByFullName(String name) {
+			return Optional.ofNullable(byFullName.get(name));
+		}
+
+		Optional<Module> getModuleBySimpleName(String name) {
+			return Optional.ofNullable(bySimpleName.get(name));
+		}
+	}
+
+	/**
+	 * Thread-safe cache of {@link Modules} instances that creates the instance for a particular key only once, letting
+	 * concurrent callers for the same key wait for the result. Evicts the least recently used entry once it grows beyond
+	 * the configured maximum size. Any eviction also clears the type caches derived from the evicted instances.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Cache {
+
+		private final Map<CacheKey, CompletableFuture<Modules>> entries;
+
+		Cache(int maxSize) {
+
+			Assert.isTrue(maxSize > 0, "Maximum cache size must be greater than zero!");
+
+			this.entries = new LinkedHashMap<CacheKey, CompletableFuture<Modules>>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				/*
+				 * (non-Javadoc)
+				 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+				 */
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<CacheKey, CompletableFuture<Modules>> eldest) {
+
+					if (size() <= maxSize) {
+						return false;
+					}
+
+					clearTypeCaches();
+
+					return true;
+				}
+			};
+		}
+
+		/**
+		 * Returns the {@link Modules} for the given {@link CacheKey}, creating it using the given factory if not present.
+		 *
+		 * @param key must not be {@literal null}.
+		 * @param factory must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		Modules get(CacheKey key, Function<CacheKey, Modules> factory) {
+
+			CompletableFuture<Modules> future;
+			boolean owner = false;
+
+			synchronized (entries) {
+
+				future = entries.get(key);
+
+				if (future == null) {
+
+					future = new CompletableFuture<>();
+					entries.put(key, future);
+					owner = true;
+				}
+			}
+
+			if (owner) {
+
+				try {
+
+					future.complete(factory.apply(key));
+
+				} catch (RuntimeException | Error o_O) {
+
+					synchronized (entries) {
+						entries.remove(key, future);
+					}
+
+					future.completeExceptionally(o_O);
+
+					throw o_O;
+				}
+			}
+
+			try {
+
+				return future.join();
+
+			} catch (CompletionException o_O) {
+
+				Throwable cause = o_O.getCause();
+
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+
+				throw o_O;
+			}
+		}
+
+		/**
+		 * Evicts all entries whose key matches the given {@link Predicate}.
+		 *
+		 * @param filter must not be {@literal null}.
+		 */
+		void evict(Predicate<CacheKey> filter) {
+
+			synchronized (entries) {
+				if (entries.keySet().removeIf(filter)) {
+					clearTypeCaches();
+				}
+			}
+		}
+
+		/**
+		 * Clears the caches of {@link ArchitecturallyEvidentType} and {@link FormatableJavaClass}, as their entries refer
+		 * to the {@link JavaClass}es of the evicted {@link Modules} instances. Entries for the ones still cached are simply
+		 * recreated on the next lookup.
+		 */
+		private static void clearTypeCaches() {
+
+			ArchitecturallyEvidentType.clearCache();
+			FormatableJavaClass.clearCache();
+		}
+	}
+
 	private static interface CacheKey {
 
 		String getBasePackage();
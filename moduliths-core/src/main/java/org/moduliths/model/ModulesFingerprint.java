@@ -0,0 +1,222 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.util.Assert;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.Source;
+
+/**
+ * Fingerprints of a {@link Modules} instance used as keys for the {@link VerificationCache}. Consists of a digest of
+ * the bytecode of every imported type and a digest of the overall module structure, i.e. the modules, their types,
+ * named interfaces and allowed dependencies. The structure digest is part of every per-module key so that a change to
+ * the bytecode of a single type only invalidates the results for the module containing it, while changes that could
+ * affect the verification of other modules, like adding or removing types or changing named interfaces, invalidate
+ * all of them.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.4
+ */
+class ModulesFingerprint {
+
+	private final Map<String, byte[]> types;
+	private final byte[] structure;
+	private final String key;
+
+	private ModulesFingerprint(Map<String, byte[]> types, byte[] structure, String key) {
+
+		this.types = types;
+		this.structure = structure;
+		this.key = key;
+	}
+
+	/**
+	 * Calculates the {@link ModulesFingerprint} for the given {@link Modules} and the {@link JavaClasses} they were
+	 * created from. Returns {@link Optional#empty()} in case the bytecode of any of the types cannot be read.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param classes must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static Optional<ModulesFingerprint> of(Modules modules, JavaClasses classes) {
+
+		Assert.notNull(modules, "Modules must not be null!");
+		Assert.notNull(classes, "JavaClasses must not be null!");
+
+		Map<String, byte[]> types = new HashMap<>();
+		byte[] buffer = new byte[8192];
+
+		for (JavaClass type : classes) {
+
+			Optional<byte[]> digest = digest(type, buffer);
+
+			if (!digest.isPresent()) {
+				return Optional.empty();
+			}
+
+			types.put(type.getName(), digest.get());
+		}
+
+		byte[] structure = digestStructure(modules);
+
+		MessageDigest digest = createDigest();
+		digest.update(structure);
+
+		types.keySet().stream().sorted().forEach(it -> {
+			update(digest, it);
+			digest.update(types.get(it));
+		});
+
+		return Optional.of(new ModulesFingerprint(types, structure, toHex(digest.digest())));
+	}
+
+	/**
+	 * Returns the key for the entire code base.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	String getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the key for the given {@link Module}, i.e. one that changes if the bytecode of the module's types or the
+	 * overall module structure changes.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	String getKey(Module module) {
+
+		Assert.notNull(module, "Module must not be null!");
+
+		MessageDigest digest = createDigest();
+
+		digest.update(structure);
+		update(digest, module.getName());
+
+		module.getBasePackage().stream().forEach(it -> {
+
+			update(digest, it.getName());
+
+			byte[] type = types.get(it.getName());
+
+			if (type != null) {
+				digest.update(type);
+			}
+		});
+
+		return toHex(digest.digest());
+	}
+
+	private static byte[] digestStructure(Modules modules) {
+
+		MessageDigest digest = createDigest();
+
+		update(digest, modules.getModulithSource().toString());
+		update(digest, Modules.getDetectionStrategy().getClass().getName());
+		update(digest, String.valueOf(Types.JMoleculesTypes.areRulesPresent()));
+
+		modules.getSharedModules().stream() //
+				.map(Module::getName) //
+				.sorted() //
+				.forEach(it -> update(digest, "shared:" + it));
+
+		modules.stream() //
+				.sorted(Comparator.comparing(Module::getName)) //
+				.forEach(module -> {
+
+					update(digest, "module:" + module.getName());
+					update(digest, module.getBasePackage().getName());
+
+					module.getAllowedDependencies(modules) //
+							.forEach(it -> update(digest, "allowed:" + it.getName()));
+
+					module.getBasePackage().stream() //
+							.forEach(it -> update(digest, it.getName()));
+
+					module.getNamedInterfaces().stream() //
+							.sorted(Comparator.comparing(NamedInterface::getName)) //
+							.forEach(named -> {
+
+								update(digest, "interface:" + named.getName());
+								named.forEach(it -> update(digest, it.getName()));
+							});
+				});
+
+		return digest.digest();
+	}
+
+	private static Optional<byte[]> digest(JavaClass type, byte[] buffer) {
+
+		if (!type.getSource().isPresent()) {
+			return Optional.empty();
+		}
+
+		Source source = type.getSource().get();
+
+		MessageDigest digest = createDigest();
+
+		try (InputStream stream = source.getUri().toURL().openStream()) {
+
+			for (int read = stream.read(buffer); read != -1; read = stream.read(buffer)) {
+				digest.update(buffer, 0, read);
+			}
+
+			return Optional.of(digest.digest());
+
+		} catch (IOException | IllegalArgumentException o_O) {
+			return Optional.empty();
+		}
+	}
+
+	static MessageDigest createDigest() {
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	static String toHex(byte[] bytes) {
+
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+		for (byte b : bytes) {
+			builder.append(String.format("%02x", b));
+		}
+
+		return builder.toString();
+	}
+}
@@ -64,15 +64,14 @@ public class NamedInterfaces implements Iterable<NamedInterface> {
 	private static List<TypeBasedNamedInterface> ofAnnotatedTypes(JavaPackage basePackage) {
 
 		MultiValueMap<String, JavaClass> mappings = new LinkedMultiValueMap<>();
+		Classes classes = basePackage.getClasses();
 
-		basePackage.stream() //
+		classes //
+				.thatAreDirectlyAnnotatedWith(org.moduliths.NamedInterface.class.getName()) //
+				.stream() //
 				.filter(it -> !JavaPackage.isPackageInfoType(it)) //
 				.forEach(it -> {
 
-					if (!it.isAnnotatedWith(org.moduliths.NamedInterface.class)) {
-						return;
-					}
-
 					org.moduliths.NamedInterface annotation = it
 							.getAnnotationOfType(org.moduliths.NamedInterface.class);
 
@@ -82,7 +81,7 @@ public class NamedInterfaces implements Iterable<NamedInterface> {
 				});
 
 		return mappings.entrySet().stream() //
-				.map(entry -> NamedInterface.of(entry.getKey(), Classes.of(entry.getValue()), basePackage)) //
+				.map(entry -> NamedInterface.of(entry.getKey(), classes.restrictTo(entry.getValue()), basePackage)) //
 				.collect(Collectors.toList());
 	}
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.model;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Decides whether and with which parallelism the analysis of the module model runs on parallel streams. By default,
+ * those use the common {@link ForkJoinPool}. The {@value #PARALLELISM_PROPERTY} system property caps the parallelism
+ * of the analysis independently of the rest of the JVM, by running it on a dedicated pool of the configured size. A
+ * value of {@literal 1} runs all analysis on the calling thread.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.4
+ */
+@UtilityClass
+class Parallelism {
+
+	static final String PARALLELISM_PROPERTY = "moduliths.parallelism";
+
+	private static @Nullable ForkJoinPool dedicatedPool;
+
+	/**
+	 * Returns whether analysis is run in parallel.
+	 *
+	 * @return
+	 */
+	boolean isEnabled() {
+		return getParallelism() > 1;
+	}
+
+	/**
+	 * Returns the parallelism configured via {@value #PARALLELISM_PROPERTY}, the one of the common {@link ForkJoinPool}
+	 * otherwise.
+	 *
+	 * @return
+	 */
+	int getParallelism() {
+
+		Integer configured = getConfiguredParallelism();
+
+		return configured == null ? ForkJoinPool.getCommonPoolParallelism() : configured;
+	}
+
+	/**
+	 * Returns the given {@link Stream} as parallel one if parallel analysis is enabled, as sequential one otherwise.
+	 *
+	 * @param stream must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	<T> Stream<T> apply(Stream<T> stream) {
+
+		Assert.notNull(stream, "Stream must not be null!");
+
+		return isEnabled() ? stream.parallel() : stream.sequential();
+	}
+
+	/**
+	 * Executes the given task so that the parallel streams it uses run with the configured parallelism, i.e. on a
+	 * dedicated {@link ForkJoinPool} in case {@value #PARALLELISM_PROPERTY} is set to a value greater than
+	 * {@literal 1}. Runs the task on the calling thread otherwise or if that's already one of the pool's workers.
+	 *
+	 * @param task must not be {@literal null}.
+	 * @return the task's result.
+	 */
+	<T> T execute(Supplier<T> task) {
+
+		Assert.notNull(task, "Task must not be null!");
+
+		ForkJoinPool pool = getPool();
+
+		if (pool == null || isWorkerOf(pool)) {
+			return task.get();
+		}
+
+		try {
+
+			return pool.submit(task::get).get();
+
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for module analysis!", o_O);
+
+		} catch (ExecutionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Returns the dedicated {@link ForkJoinPool} for the configured parallelism, creating it on first use and replacing
+	 * it if the configuration changed.
+	 *
+	 * @return {@literal null} if no dedicated pool is needed.
+	 */
+	@Nullable
+	private static synchronized ForkJoinPool getPool() {
+
+		Integer parallelism = getConfiguredParallelism();
+
+		if (parallelism == null || parallelism < 2) {
+			return null;
+		}
+
+		if (dedicatedPool == null || dedicatedPool.getParallelism() != parallelism) {
+
+			if (dedicatedPool != null) {
+				dedicatedPool.shutdown();
+			}
+
+			dedicatedPool = new ForkJoinPool(parallelism);
+		}
+
+		return dedicatedPool;
+	}
+
+	@Nullable
+	private static Integer getConfiguredParallelism() {
+
+		String configured = System.getProperty(PARALLELISM_PROPERTY);
+
+		if (!StringUtils.hasText(configured)) {
+			return null;
+		}
+
+		try {
+			return Math.max(1, Integer.parseInt(configured.trim()));
+		} catch (NumberFormatException o_O) {
+			throw new IllegalStateException(
+					String.format("Invalid value %s configured for %s!", configured, PARALLELISM_PROPERTY), o_O);
+		}
+	}
+
+	private static boolean isWorkerOf(ForkJoinPool pool) {
+
+		Thread thread = Thread.currentThread();
+
+		return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool;
+	}
+}
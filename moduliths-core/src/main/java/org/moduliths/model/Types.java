@@ -15,6 +15,7 @@
  */
 package org.moduliths.model;
 
+import static com.tngtech.archunit.base.DescribedPredicate.*;
 import static com.tngtech.archunit.core.domain.JavaClass.Predicates.*;
 
 import lombok.experimental.UtilityClass;
@@ -77,6 +78,19 @@ class Types {
 		public static boolean areRulesPresent() {
 			return ClassUtils.isPresent(ARCHUNIT_RULES, JMoleculesTypes.class.getClassLoader());
 		}
+
+		/**
+		 * Returns all domain events contained in the given {@link Classes}, i.e. classes implementing
+		 * {@value #DOMAIN_EVENT} or annotated with {@value #AT_DOMAIN_EVENT}.
+		 *
+		 * @param classes must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static Classes findDomainEvents(Classes classes) {
+
+			return classes.thatAreAssignableTo(DOMAIN_EVENT).that(not(INTERFACES)) //
+					.and(classes.thatAreAnnotatedWith(AT_DOMAIN_EVENT));
+		}
 	}
 
 	@UtilityClass
@@ -124,6 +138,36 @@ class Types {
 			return isAnnotatedWith(AT_CONFIGURATION_PROPERTIES);
 		}
 
+		/**
+		 * Returns all configuration classes contained in the given {@link Classes}.
+		 *
+		 * @param classes must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static Classes findConfigurations(Classes classes) {
+			return classes.thatAreAnnotatedWith(AT_CONFIGURATION);
+		}
+
+		/**
+		 * Returns all non-interface components contained in the given {@link Classes}.
+		 *
+		 * @param classes must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static Classes findComponents(Classes classes) {
+			return classes.thatAreAnnotatedWith(AT_COMPONENT).that(not(INTERFACES));
+		}
+
+		/**
+		 * Returns all {@code @ConfigurationProperties} classes contained in the given {@link Classes}.
+		 *
+		 * @param classes must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static Classes findConfigurationProperties(Classes classes) {
+			return classes.thatAreAnnotatedWith(AT_CONFIGURATION_PROPERTIES);
+		}
+
 		static boolean isAtBeanMethod(JavaMethod method) {
 			return isAnnotatedWith(SpringTypes.AT_BEAN).apply(method);
 		}
@@ -145,6 +189,19 @@ class Types {
 			return assignableTo(SpringDataTypes.REPOSITORY) //
 					.or(isAnnotatedWith(SpringDataTypes.AT_REPOSITORY_DEFINITION));
 		}
+
+		/**
+		 * Returns all Spring Data repositories contained in the given {@link Classes}.
+		 *
+		 * @param classes must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see #isSpringDataRepository()
+		 */
+		static Classes findRepositories(Classes classes) {
+
+			return classes.thatAreAssignableTo(REPOSITORY) //
+					.and(classes.thatAreAnnotatedWith(AT_REPOSITORY_DEFINITION));
+		}
 	}
 
 	DescribedPredicate<CanBeAnnotated> isAnnotatedWith(Class<?> type) {
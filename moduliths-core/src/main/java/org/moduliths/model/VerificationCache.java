@@ -0,0 +1,323 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A cache of verification results persisted in a directory configured via the {@value #DIRECTORY_PROPERTY} system
+ * property. Results are keyed by {@link ModulesFingerprint}s of the bytecode of the analyzed types so that re-running
+ * the verification of an unchanged code base, e.g. in a different JVM, doesn't have to analyze the dependencies again.
+ * Disabled if the property is not set. Failures to read or write the cache are ignored and fall back to running the
+ * verification.
+ * <p>
+ * Entries are plain text files containing the Moduliths version and the fingerprint they were created for, followed
+ * by one (escaped) violation message per line. Entries written by a different Moduliths version are considered stale,
+ * as the verification rules might have changed. Snapshot and development builds don't identify the rules they contain
+ * by their version, which is why their version is augmented by a hash of the Moduliths classes themselves. If that
+ * cannot be calculated, the cache is disabled.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.4
+ */
+class VerificationCache {
+
+	static final String DIRECTORY_PROPERTY = "moduliths.verification-cache.directory";
+	static final VerificationCache NONE = new VerificationCache(null, null);
+
+	private static final String FILE_EXTENSION = ".violations";
+
+	private final @Nullable Path directory;
+	private final @Nullable String version;
+
+	private VerificationCache(@Nullable Path directory, @Nullable String version) {
+
+		this.directory = directory;
+		this.version = version;
+	}
+
+	/**
+	 * Creates a new {@link VerificationCache} storing its results in the given directory.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static VerificationCache of(Path directory) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+
+		String version = VerificationCache.class.getPackage().getImplementationVersion();
+
+		return new VerificationCache(directory, getModulithsVersion(version, getCodeSource()));
+	}
+
+	/**
+	 * Creates a new {@link VerificationCache} storing its results in the given directory for the given version of the
+	 * verification rules.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @param version can be {@literal null} to disable the cache.
+	 * @return will never be {@literal null}.
+	 */
+	static VerificationCache of(Path directory, @Nullable String version) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+
+		return new VerificationCache(directory, version);
+	}
+
+	/**
+	 * Creates a new {@link VerificationCache} for the directory configured via {@value #DIRECTORY_PROPERTY} or
+	 * {@link #NONE} if the property is not set.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static VerificationCache fromSystemProperties() {
+
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+
+		return StringUtils.hasText(directory) ? of(Paths.get(directory)) : NONE;
+	}
+
+	/**
+	 * Returns whether the cache is enabled, i.e. a directory is configured and the version of the verification rules is
+	 * known.
+	 *
+	 * @return
+	 */
+	boolean isEnabled() {
+		return directory != null && version != null;
+	}
+
+	/**
+	 * Returns the {@link Violations} stored for the given key or runs the given verification and stores its result.
+	 *
+	 * @param key can be {@literal null} in case no key could be calculated, the verification will be run in that case.
+	 * @param verification must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see ModulesFingerprint
+	 */
+	Violations get(@Nullable String key, Supplier<Violations> verification) {
+
+		Assert.notNull(verification, "Verification must not be null!");
+
+		if (directory == null || version == null || key == null) {
+			return verification.get();
+		}
+
+		Path file = directory.resolve(key.concat(FILE_EXTENSION));
+		Optional<Violations> cached = read(file, version, key);
+
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		Violations violations = verification.get();
+
+		write(file, version, key, violations);
+
+		return violations;
+	}
+
+	private static Optional<Violations> read(Path file, String version, String key) {
+
+		if (!Files.isRegularFile(file)) {
+			return Optional.empty();
+		}
+
+		try {
+
+			List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+
+			if (lines.size() < 2 || !version.equals(lines.get(0)) || !key.equals(lines.get(1))) {
+				return Optional.empty();
+			}
+
+			Violations violations = Violations.NONE;
+
+			for (String line : lines.subList(2, lines.size())) {
+				violations = violations.and(unescape(line));
+			}
+
+			return Optional.of(violations);
+
+		} catch (IOException | RuntimeException o_O) {
+
+			// Corrupt cache entry, verify again
+			return Optional.empty();
+		}
+	}
+
+	private static void write(Path file, String version, String key, Violations violations) {
+
+		try {
+
+			Files.createDirectories(file.getParent());
+
+			Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+			try {
+
+				List<String> lines = new ArrayList<>();
+
+				lines.add(version);
+				lines.add(key);
+				violations.getMessages().forEach(it -> lines.add(escape(it)));
+
+				Files.write(temporary, lines, StandardCharsets.UTF_8);
+
+				Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+
+			} finally {
+				Files.deleteIfExists(temporary);
+			}
+
+		} catch (IOException o_O) {
+			// Caching is best effort only
+		}
+	}
+
+	private static String escape(String message) {
+
+		return message.replace("\\", "\\\\") //
+				.replace("\r", "\\r") //
+				.replace("\n", "\\n");
+	}
+
+	private static String unescape(String line) {
+
+		StringBuilder builder = new StringBuilder(line.length());
+
+		for (int i = 0; i < line.length(); i++) {
+
+			char character = line.charAt(i);
+
+			if (character != '\\' || i + 1 == line.length()) {
+				builder.append(character);
+				continue;
+			}
+
+			char next = line.charAt(++i);
+
+			builder.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Returns the version identifying the verification rules. Release versions are used as is, snapshot and development
+	 * builds are additionally identified by a hash of the given code source.
+	 *
+	 * @param implementationVersion can be {@literal null}.
+	 * @param codeSource the JAR file or class folder the Moduliths classes were loaded from, can be {@literal null}.
+	 * @return {@literal null} if the version cannot be determined.
+	 */
+	@Nullable
+	static String getModulithsVersion(@Nullable String implementationVersion, @Nullable Path codeSource) {
+
+		if (implementationVersion != null && !implementationVersion.endsWith("-SNAPSHOT")) {
+			return "moduliths ".concat(implementationVersion);
+		}
+
+		String hash = codeSource == null ? null : hash(codeSource);
+
+		return hash == null ? null
+				: "moduliths ".concat(implementationVersion == null ? "development" : implementationVersion) //
+						.concat(" ").concat(hash);
+	}
+
+	@Nullable
+	private static Path getCodeSource() {
+
+		try {
+
+			CodeSource source = VerificationCache.class.getProtectionDomain().getCodeSource();
+			URL location = source == null ? null : source.getLocation();
+
+			return location == null ? null : Paths.get(location.toURI());
+
+		} catch (Exception o_O) {
+			return null;
+		}
+	}
+
+	@Nullable
+	private static String hash(Path codeSource) {
+
+		MessageDigest digest = ModulesFingerprint.createDigest();
+
+		try {
+
+			if (Files.isRegularFile(codeSource)) {
+
+				update(digest, codeSource);
+
+				return ModulesFingerprint.toHex(digest.digest());
+			}
+
+			if (!Files.isDirectory(codeSource)) {
+				return null;
+			}
+
+			List<Path> files;
+
+			try (Stream<Path> stream = Files.walk(codeSource)) {
+				files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+			}
+
+			for (Path file : files) {
+
+				ModulesFingerprint.update(digest, codeSource.relativize(file).toString());
+				update(digest, file);
+			}
+
+			return ModulesFingerprint.toHex(digest.digest());
+
+		} catch (IOException | RuntimeException o_O) {
+			return null;
+		}
+	}
+
+	private static void update(MessageDigest digest, Path file) throws IOException {
+
+		byte[] buffer = new byte[8192];
+
+		try (InputStream stream = new DigestInputStream(Files.newInputStream(file), digest)) {
+			while (stream.read(buffer) != -1) {}
+		}
+	}
+}
@@ -62,6 +62,18 @@ public class Violations extends RuntimeException {
 				.collect(Collectors.joining("\n- ", "- ", ""));
 	}
 
+	/**
+	 * Returns the messages of all individual violations.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	List<String> getMessages() {
+
+		return exceptions.stream() //
+				.map(RuntimeException::getMessage) //
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * Returns whether there are violations available.
 	 *
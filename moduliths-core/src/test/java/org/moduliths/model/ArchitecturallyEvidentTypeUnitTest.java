@@ -177,6 +177,22 @@ class ArchitecturallyEvidentTypeUnitTest {
 		assertThat(ArchitecturallyEvidentType.of(type, classes).isRepository()).isTrue();
 	}
 
+	@Test
+	void dropsCachedTypesOnModulesCacheEviction() {
+
+		ArchitecturallyEvidentType type = ArchitecturallyEvidentType.of(self, classes);
+		FormatableJavaClass formatable = FormatableJavaClass.of(self);
+
+		assertThat(ArchitecturallyEvidentType.of(self, classes)).isSameAs(type);
+		assertThat(FormatableJavaClass.of(self)).isSameAs(formatable);
+
+		Modules.of(getClass().getPackage().getName());
+		Modules.clearCache();
+
+		assertThat(ArchitecturallyEvidentType.of(self, classes)).isNotSameAs(type);
+		assertThat(FormatableJavaClass.of(self)).isNotSameAs(formatable);
+	}
+
 	private Iterator<ArchitecturallyEvidentType> getTypesFor(Class<?>... types) {
 
 		return Stream.of(types) //
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.model;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.annotation.Documented;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.NonNullApi;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+/**
+ * Unit tests for {@link Classes}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ClassesUnitTests {
+
+	Classes classes = TestUtils.getClasses();
+
+	@Test
+	void filteredClassesAreSortedByName() {
+
+		Classes result = classes.that(simpleNameStartingWith("Module"));
+
+		assertThat(result.stream().map(JavaClass::getName)) //
+				.isNotEmpty() //
+				.isSorted() //
+				.allMatch(it -> it.startsWith(Module.class.getName()));
+	}
+
+	@Test
+	void checksMembership() {
+
+		Classes result = classes.that(simpleName(Module.class.getSimpleName()));
+
+		assertThat(result.contains(Module.class.getName())).isTrue();
+		assertThat(result.contains(classes.getRequiredClass(Module.class))).isTrue();
+		assertThat(result.contains(Modules.class.getName())).isFalse();
+		assertThat(result.contains("com.acme.NonExisting")).isFalse();
+	}
+
+	@Test
+	void combinesClassesWithoutDuplicates() {
+
+		Classes module = classes.that(simpleName(Module.class.getSimpleName()));
+		Classes modules = classes.that(simpleName(Modules.class.getSimpleName()));
+
+		Classes result = module.and(modules).and(module);
+
+		assertThat(result.stream().map(JavaClass::getName)) //
+				.containsExactly(Module.class.getName(), Modules.class.getName());
+		assertThat(result).isEqualTo(modules.and(module));
+	}
+
+	@Test
+	void combinesWithTypesOutsideTheOriginalUniverse() {
+
+		JavaClass external = new ClassFileImporter().importClass(String.class);
+		Classes module = classes.that(simpleName(Module.class.getSimpleName()));
+
+		Classes result = module.and(Arrays.asList(external));
+
+		assertThat(result.stream().map(JavaClass::getName).collect(Collectors.toList())) //
+				.containsExactly(String.class.getName(), Module.class.getName());
+		assertThat(result.contains(external)).isTrue();
+	}
+
+	@Test
+	void restrictsToGivenTypesContainedInInstance() {
+
+		JavaClass external = new ClassFileImporter().importClass(String.class);
+		Classes module = classes.that(simpleName(Module.class.getSimpleName()));
+		Classes modules = classes.that(simpleName(Modules.class.getSimpleName()));
+
+		Classes result = classes.restrictTo(Arrays.asList(classes.getRequiredClass(Modules.class),
+				classes.getRequiredClass(Module.class), external));
+
+		assertThat(result.stream().map(JavaClass::getName)) //
+				.containsExactly(Module.class.getName(), Modules.class.getName());
+		assertThat(result).isEqualTo(module.and(modules));
+		assertThat(module.restrictTo(result.stream().collect(Collectors.toList()))).isEqualTo(module);
+	}
+
+	@Test
+	void looksUpAssignableTypesFromIndex() {
+
+		Classes result = classes.thatAreAssignableTo(ModuleDetectionStrategy.class.getName());
+
+		assertThat(result.contains(ModuleDetectionStrategy.class.getName())).isTrue();
+		assertThat(result.contains(ModuleDetectionStrategies.class.getName())).isTrue();
+		assertThat(result.contains(Module.class.getName())).isFalse();
+	}
+
+	@Test
+	void looksUpAnnotatedTypesFromIndex() {
+
+		String packageInfo = Module.class.getPackage().getName() + ".package-info";
+
+		assertThat(classes.thatAreDirectlyAnnotatedWith(NonNullApi.class.getName()).stream().map(JavaClass::getName)) //
+				.containsExactly(packageInfo);
+		assertThat(classes.thatAreDirectlyAnnotatedWith(Documented.class.getName()).isEmpty()).isTrue();
+		assertThat(classes.thatAreAnnotatedWith(Documented.class.getName()).contains(packageInfo)).isTrue();
+	}
+}
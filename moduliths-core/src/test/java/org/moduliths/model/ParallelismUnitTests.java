@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Parallelism}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ParallelismUnitTests {
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty(Parallelism.PARALLELISM_PROPERTY);
+	}
+
+	@Test
+	void runsStreamsSequentiallyIfDisabled() {
+
+		System.setProperty(Parallelism.PARALLELISM_PROPERTY, "1");
+
+		assertThat(Parallelism.isEnabled()).isFalse();
+		assertThat(Parallelism.apply(Stream.of(1, 2, 3).parallel()).isParallel()).isFalse();
+		assertThat(Parallelism.execute(Thread::currentThread)).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void usesCommonPoolParallelismByDefault() {
+
+		assertThat(Parallelism.getParallelism()).isEqualTo(ForkJoinPool.getCommonPoolParallelism());
+		assertThat(Parallelism.apply(Stream.of(1, 2, 3)).isParallel()).isEqualTo(Parallelism.isEnabled());
+		assertThat(Parallelism.execute(Thread::currentThread)).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void runsTasksOnDedicatedPoolOfConfiguredParallelism() {
+
+		System.setProperty(Parallelism.PARALLELISM_PROPERTY, "3");
+
+		Thread thread = Parallelism.execute(Thread::currentThread);
+
+		assertThat(Parallelism.isEnabled()).isTrue();
+		assertThat(thread).isInstanceOfSatisfying(ForkJoinWorkerThread.class, it -> {
+			assertThat(it.getPool()).isNotSameAs(ForkJoinPool.commonPool());
+			assertThat(it.getPool().getParallelism()).isEqualTo(3);
+		});
+	}
+
+	@Test
+	void rejectsInvalidParallelism() {
+
+		System.setProperty(Parallelism.PARALLELISM_PROPERTY, "many");
+
+		assertThatIllegalStateException().isThrownBy(Parallelism::isEnabled);
+	}
+}
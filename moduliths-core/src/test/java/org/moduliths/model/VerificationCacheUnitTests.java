@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link VerificationCache}.
+ *
+ * @author Oliver Drotbohm
+ */
+class VerificationCacheUnitTests {
+
+	@Test
+	void reusesPersistedViolations(@TempDir Path directory) {
+
+		AtomicInteger invocations = new AtomicInteger();
+		Violations violations = Violations.NONE.and("First").and("Second");
+
+		VerificationCache.of(directory).get("key", () -> {
+			invocations.incrementAndGet();
+			return violations;
+		});
+
+		Violations result = VerificationCache.of(directory).get("key", () -> {
+			invocations.incrementAndGet();
+			return Violations.NONE;
+		});
+
+		assertThat(invocations.get()).isEqualTo(1);
+		assertThat(result.getMessages()).containsExactly("First", "Second");
+	}
+
+	@Test
+	void roundTripsMultiLineMessages(@TempDir Path directory) {
+
+		String message = "Module 'a' depends on non-exposed type\n - in C:\\some\\path";
+
+		VerificationCache.of(directory).get("key", () -> Violations.NONE.and(message));
+
+		Violations result = VerificationCache.of(directory).get("key", () -> Violations.NONE);
+
+		assertThat(result.getMessages()).containsExactly(message);
+	}
+
+	@Test
+	void verifiesAgainForEntryWrittenByDifferentVersion(@TempDir Path directory) throws Exception {
+
+		Files.write(directory.resolve("key.violations"), Arrays.asList("moduliths 0.1", "key", "Stale"),
+				StandardCharsets.UTF_8);
+
+		assertThat(VerificationCache.of(directory).get("key", () -> Violations.NONE).hasViolations()).isFalse();
+	}
+
+	@Test
+	void verifiesAgainForEntryWrittenForDifferentRules(@TempDir Path directory) {
+
+		VerificationCache.of(directory, "moduliths 1.4.0-SNAPSHOT first").get("key", () -> Violations.NONE.and("Stale"));
+
+		VerificationCache cache = VerificationCache.of(directory, "moduliths 1.4.0-SNAPSHOT second");
+
+		assertThat(cache.get("key", () -> Violations.NONE).hasViolations()).isFalse();
+	}
+
+	@Test
+	void usesReleaseVersionAsIs() {
+		assertThat(VerificationCache.getModulithsVersion("1.4.0", null)).isEqualTo("moduliths 1.4.0");
+	}
+
+	@Test
+	void identifiesSnapshotRulesByHashOfCodeSource(@TempDir Path classes) throws Exception {
+
+		Path type = Files.createDirectories(classes.resolve("org/moduliths/model")).resolve("Modules.class");
+
+		Files.write(type, new byte[] { 1 });
+
+		String first = VerificationCache.getModulithsVersion("1.4.0-SNAPSHOT", classes);
+
+		Files.write(type, new byte[] { 2 });
+
+		String second = VerificationCache.getModulithsVersion("1.4.0-SNAPSHOT", classes);
+
+		assertThat(first).startsWith("moduliths 1.4.0-SNAPSHOT ");
+		assertThat(second).startsWith("moduliths 1.4.0-SNAPSHOT ").isNotEqualTo(first);
+		assertThat(VerificationCache.getModulithsVersion(null, classes)).startsWith("moduliths development ");
+	}
+
+	@Test
+	void disablesCacheIfRulesCannotBeIdentified(@TempDir Path directory) {
+
+		VerificationCache cache = VerificationCache.of(directory, null);
+
+		assertThat(VerificationCache.getModulithsVersion(null, null)).isNull();
+		assertThat(VerificationCache.getModulithsVersion(null, directory.resolve("missing"))).isNull();
+		assertThat(cache.isEnabled()).isFalse();
+		assertThat(cache.get("key", () -> Violations.NONE.and("First")).hasViolations()).isTrue();
+		assertThat(directory).isEmptyDirectory();
+	}
+
+	@Test
+	void verifiesAgainForDifferentKey(@TempDir Path directory) {
+
+		VerificationCache cache = VerificationCache.of(directory);
+
+		cache.get("first", () -> Violations.NONE.and("First"));
+
+		assertThat(cache.get("second", () -> Violations.NONE).hasViolations()).isFalse();
+	}
+
+	@Test
+	void alwaysVerifiesWithoutKey(@TempDir Path directory) {
+
+		VerificationCache cache = VerificationCache.of(directory);
+
+		cache.get(null, () -> Violations.NONE.and("First"));
+
+		assertThat(cache.get(null, () -> Violations.NONE).hasViolations()).isFalse();
+		assertThat(directory).isEmptyDirectory();
+	}
+
+	@Test
+	void disabledCacheAlwaysVerifies() {
+
+		assertThat(VerificationCache.NONE.isEnabled()).isFalse();
+		assertThat(VerificationCache.NONE.get("key", () -> Violations.NONE.and("First")).hasViolations()).isTrue();
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.benchmarks;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * A simple, Jackson-serializable event used throughout the benchmarks. Every instance carries a unique identifier so
+ * that its serialized form uniquely identifies a publication.
+ *
+ * @author Oliver Drotbohm
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkEvent {
+
+	private UUID id;
+	private String payload;
+
+	/**
+	 * Creates a new {@link BenchmarkEvent} with a random identifier and the given payload.
+	 *
+	 * @param payload must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static BenchmarkEvent of(String payload) {
+		return new BenchmarkEvent(UUID.randomUUID(), payload);
+	}
+}
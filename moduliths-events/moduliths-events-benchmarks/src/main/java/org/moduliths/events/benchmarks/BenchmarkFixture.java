@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.benchmarks;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.support.PersistentApplicationEventMulticaster;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.transaction.event.TransactionalApplicationListenerAdapter;
+
+/**
+ * The components under test for a particular {@link RegistryType}.
+ *
+ * @author Oliver Drotbohm
+ */
+@RequiredArgsConstructor
+class BenchmarkFixture implements AutoCloseable {
+
+	private final @NonNull @Getter EventPublicationRegistry registry;
+	private final @NonNull PersistentApplicationEventMulticaster multicaster;
+	private final @NonNull PlatformTransactionManager transactionManager;
+	private final @NonNull Runnable onClose;
+
+	/**
+	 * Returns the given number of {@link PublicationTargetIdentifier}s.
+	 *
+	 * @param count the number of identifiers to create.
+	 * @return will never be {@literal null}.
+	 */
+	static List<PublicationTargetIdentifier> identifiers(int count) {
+
+		return IntStream.range(0, count) //
+				.mapToObj(it -> PublicationTargetIdentifier.of("listener-" + it)) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Registers the given number of transactional event listeners with the multicaster. The listeners mark their
+	 * publication completed after successful invocation, just like the ones proxied by the
+	 * {@link org.moduliths.events.support.CompletionRegisteringBeanPostProcessor}.
+	 *
+	 * @param count the number of listeners to register.
+	 */
+	void registerListeners(int count) {
+
+		for (PublicationTargetIdentifier identifier : identifiers(count)) {
+
+			TransactionalApplicationListenerAdapter<ApplicationEvent> listener = new TransactionalApplicationListenerAdapter<>(
+					__ -> {});
+
+			listener.setListenerId(identifier.getValue());
+			listener.addCallback(new TransactionalApplicationListener.SynchronizationCallback() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.transaction.event.TransactionalApplicationListener.SynchronizationCallback#postProcessEvent(org.springframework.context.ApplicationEvent, java.lang.Throwable)
+				 */
+				@Override
+				public void postProcessEvent(ApplicationEvent event, Throwable ex) {
+
+					if (ex == null) {
+						registry.markCompleted(((PayloadApplicationEvent<?>) event).getPayload(), identifier);
+					}
+				}
+			});
+
+			multicaster.addApplicationListener(listener);
+		}
+	}
+
+	/**
+	 * Publishes the given event through the multicaster within a transaction.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	void publish(Object event) {
+
+		inTransaction(() -> multicaster.multicastEvent(new PayloadApplicationEvent<>(this, event)));
+	}
+
+	/**
+	 * Stores publications of the given event to the given listeners within a transaction.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param identifiers must not be {@literal null}.
+	 */
+	void store(Object event, List<PublicationTargetIdentifier> identifiers) {
+		inTransaction(() -> registry.store(event, identifiers.stream()));
+	}
+
+	/**
+	 * Stores the given number of publications for freshly created events to the given listeners.
+	 *
+	 * @param count the number of events to store publications for.
+	 * @param identifiers must not be {@literal null}.
+	 * @return the events the publications were stored for.
+	 */
+	List<BenchmarkEvent> createBacklog(int count, List<PublicationTargetIdentifier> identifiers) {
+
+		List<BenchmarkEvent> events = Stream.generate(() -> BenchmarkEvent.of("backlog")) //
+				.limit(count) //
+				.collect(Collectors.toList());
+
+		inTransaction(() -> events.forEach(it -> registry.store(it, identifiers.stream())));
+
+		return events;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		onClose.run();
+	}
+
+	private void inTransaction(Runnable runnable) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(__ -> runnable.run());
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.benchmarks;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.moduliths.events.EventPublication;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the individual operations of {@link org.moduliths.events.EventPublicationRegistry} implementations.
+ *
+ * @author Oliver Drotbohm
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventPublicationRegistryBenchmarks {
+
+	@State(Scope.Thread)
+	public static class Publications {
+
+		@Param({ "MAP", "JPA" }) RegistryType registry;
+		@Param({ "1", "10" }) int listeners;
+
+		BenchmarkFixture fixture;
+		List<PublicationTargetIdentifier> identifiers;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+
+			this.fixture = registry.createFixture();
+			this.identifiers = BenchmarkFixture.identifiers(listeners);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			fixture.close();
+		}
+	}
+
+	/**
+	 * Provides a batch of stored, incomplete publications per iteration to be completed one by one.
+	 */
+	@State(Scope.Thread)
+	public static class CompletablePublications {
+
+		@Param({ "MAP", "JPA" }) RegistryType registry;
+
+		BenchmarkFixture fixture;
+		Iterator<BenchmarkEvent> events;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+
+			this.fixture = registry.createFixture();
+		}
+
+		@Setup(Level.Iteration)
+		public void createPublications() {
+			this.events = fixture.createBacklog(10_000, BenchmarkFixture.identifiers(1)).iterator();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			fixture.close();
+		}
+
+		BenchmarkEvent nextEvent() {
+
+			if (!events.hasNext()) {
+				createPublications();
+			}
+
+			return events.next();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Backlog {
+
+		@Param({ "MAP", "JPA" }) RegistryType registry;
+		@Param({ "1000", "10000" }) int size;
+
+		BenchmarkFixture fixture;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+
+			this.fixture = registry.createFixture();
+			this.fixture.createBacklog(size, BenchmarkFixture.identifiers(1));
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			fixture.close();
+		}
+	}
+
+	@Benchmark
+	public void store(Publications state) {
+		state.fixture.store(BenchmarkEvent.of("store"), state.identifiers);
+	}
+
+	@Benchmark
+	public void markCompleted(CompletablePublications state) {
+		state.fixture.getRegistry().markCompleted(state.nextEvent(), PublicationTargetIdentifier.of("listener-0"));
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void findIncompletePublications(Backlog state, Blackhole blackhole) {
+
+		for (EventPublication publication : state.fixture.getRegistry().findIncompletePublications()) {
+			blackhole.consume(publication.getEvent());
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.benchmarks;
+
+import static org.springframework.core.io.support.SpringFactoriesLoader.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.moduliths.events.EventSerializer;
+import org.moduliths.events.config.EventSerializationConfigurationExtension;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Benchmarks for the Jackson based {@link EventSerializer}.
+ *
+ * @author Oliver Drotbohm
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JacksonEventSerializerBenchmarks {
+
+	@State(Scope.Benchmark)
+	public static class Serialization {
+
+		AnnotationConfigApplicationContext context;
+		EventSerializer serializer;
+		BenchmarkEvent event;
+		Object serialized;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+
+			ClassLoader classLoader = getClass().getClassLoader();
+
+			this.context = new AnnotationConfigApplicationContext();
+
+			// Bootstrap the serializer the same way @EnablePersistentDomainEvents does
+			loadFactoryNames(EventSerializationConfigurationExtension.class, classLoader) //
+					.forEach(it -> context.register(ClassUtils.resolveClassName(it, classLoader)));
+
+			this.context.refresh();
+
+			this.serializer = context.getBean(EventSerializer.class);
+			this.event = BenchmarkEvent.of("serialization");
+			this.serialized = serializer.serialize(event);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			context.close();
+		}
+	}
+
+	@Benchmark
+	public Object serialize(Serialization state) {
+		return state.serializer.serialize(state.event);
+	}
+
+	@Benchmark
+	public Object deserialize(Serialization state) {
+		return state.serializer.deserialize(state.serialized, BenchmarkEvent.class);
+	}
+}
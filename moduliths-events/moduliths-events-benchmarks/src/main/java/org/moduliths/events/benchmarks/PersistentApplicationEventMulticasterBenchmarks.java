@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the full publication pipeline of
+ * {@link org.moduliths.events.support.PersistentApplicationEventMulticaster}: storing the publications within the
+ * publishing transaction, invoking the transactional event listeners after commit and marking their publications
+ * completed.
+ *
+ * @author Oliver Drotbohm
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistentApplicationEventMulticasterBenchmarks {
+
+	@State(Scope.Thread)
+	public static class Multicaster {
+
+		@Param({ "MAP", "JPA" }) RegistryType registry;
+		@Param({ "1", "10", "50" }) int listeners;
+
+		BenchmarkFixture fixture;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+
+			this.fixture = registry.createFixture();
+			this.fixture.registerListeners(listeners);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			fixture.close();
+		}
+	}
+
+	@Benchmark
+	public void multicastEvent(Multicaster state) {
+		state.fixture.publish(BenchmarkEvent.of("multicast"));
+	}
+}
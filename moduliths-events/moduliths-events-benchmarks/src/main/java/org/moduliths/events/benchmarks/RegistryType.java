@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.benchmarks;
+
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.support.MapEventPublicationRegistry;
+import org.moduliths.events.support.PersistentApplicationEventMulticaster;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * The {@link EventPublicationRegistry} implementations the benchmarks are run against.
+ *
+ * @author Oliver Drotbohm
+ */
+public enum RegistryType {
+
+	/**
+	 * The in-memory {@link MapEventPublicationRegistry}.
+	 */
+	MAP {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.benchmarks.RegistryType#createFixture()
+		 */
+		@Override
+		BenchmarkFixture createFixture() {
+
+			MapEventPublicationRegistry registry = new MapEventPublicationRegistry();
+			PersistentApplicationEventMulticaster multicaster = new PersistentApplicationEventMulticaster(() -> registry);
+
+			return new BenchmarkFixture(registry, multicaster, new NoOpTransactionManager(), () -> {});
+		}
+	},
+
+	/**
+	 * The JPA based registry backed by an embedded H2 database.
+	 */
+	JPA {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.benchmarks.RegistryType#createFixture()
+		 */
+		@Override
+		BenchmarkFixture createFixture() {
+
+			AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(JpaInfrastructure.class);
+
+			return new BenchmarkFixture(context.getBean(EventPublicationRegistry.class),
+					context.getBean(PersistentApplicationEventMulticaster.class),
+					context.getBean(PlatformTransactionManager.class), context::close);
+		}
+	};
+
+	/**
+	 * Creates a new {@link BenchmarkFixture} for the registry type.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	abstract BenchmarkFixture createFixture();
+}
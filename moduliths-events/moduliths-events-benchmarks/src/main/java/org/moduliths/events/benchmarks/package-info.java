@@ -0,0 +1,2 @@
+@org.springframework.lang.NonNullApi
+package org.moduliths.events.benchmarks;
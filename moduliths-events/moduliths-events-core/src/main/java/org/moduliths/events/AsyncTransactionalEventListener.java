@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * An {@link TransactionalEventListener} for the {@link TransactionPhase#AFTER_COMMIT} phase that is invoked
+ * asynchronously on an executor and in a new transaction, so that the committing thread returns right away. The event
+ * publication is marked completed once the listener has completed successfully and its transaction has committed.
+ *
+ * @author Oliver Drotbohm
+ * @see org.moduliths.events.support.CompletionRegisteringBeanPostProcessor
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+public @interface AsyncTransactionalEventListener {
+
+	/**
+	 * The event classes the listener handles.
+	 *
+	 * @see TransactionalEventListener#classes()
+	 */
+	@AliasFor(annotation = TransactionalEventListener.class, attribute = "classes")
+	Class<?>[] value() default {};
+
+	/**
+	 * The identifier of the listener.
+	 *
+	 * @see TransactionalEventListener#id()
+	 */
+	@AliasFor(annotation = TransactionalEventListener.class, attribute = "id")
+	String id() default "";
+
+	/**
+	 * The name of the {@link java.util.concurrent.Executor} bean to invoke the listener on. Defaults to the single
+	 * {@link org.springframework.core.task.TaskExecutor} in the application context or, if there are multiple, the one
+	 * named {@code taskExecutor}.
+	 */
+	String executor() default "";
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+
+/**
+ * A summary of the incomplete {@link EventPublication}s of an {@link EventPublicationRegistry}, grouped by event type
+ * and listener. Allows inspecting the backlog without materializing the individual publications.
+ *
+ * @author Oliver Drotbohm
+ * @see EventPublicationRegistry#getBacklog()
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventPublicationBacklog implements Iterable<EventPublicationBacklog.Entry> {
+
+	private static final EventPublicationBacklog EMPTY = new EventPublicationBacklog(Collections.emptyList());
+
+	private static final Comparator<Entry> BY_AGE = Comparator.comparing(Entry::getOldestPublicationDate) //
+			.thenComparing(Entry::getEventType) //
+			.thenComparing(it -> it.getListener().getValue());
+
+	private final List<Entry> entries;
+
+	/**
+	 * Creates a new {@link EventPublicationBacklog} for the given {@link Entry}s.
+	 *
+	 * @param entries must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static EventPublicationBacklog of(List<Entry> entries) {
+
+		Assert.notNull(entries, "Entries must not be null!");
+
+		if (entries.isEmpty()) {
+			return EMPTY;
+		}
+
+		List<Entry> sorted = new ArrayList<>(entries);
+		sorted.sort(BY_AGE);
+
+		return new EventPublicationBacklog(Collections.unmodifiableList(sorted));
+	}
+
+	/**
+	 * Creates a new {@link EventPublicationBacklog} by aggregating the given incomplete {@link EventPublication}s.
+	 *
+	 * @param publications must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static EventPublicationBacklog from(Iterable<EventPublication> publications) {
+
+		Assert.notNull(publications, "Publications must not be null!");
+
+		Map<List<Object>, Entry> entries = new LinkedHashMap<>();
+
+		for (EventPublication publication : publications) {
+
+			String eventType = publication.getEvent().getClass().getName();
+			PublicationTargetIdentifier listener = publication.getTargetIdentifier();
+
+			entries.merge(Arrays.asList(eventType, listener),
+					Entry.of(eventType, listener, 1, publication.getPublicationDate()), Entry::merge);
+		}
+
+		return of(new ArrayList<>(entries.values()));
+	}
+
+	/**
+	 * Returns an empty {@link EventPublicationBacklog}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static EventPublicationBacklog empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns whether there are no incomplete publications at all.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	/**
+	 * Returns the total number of incomplete publications.
+	 *
+	 * @return
+	 */
+	public long getTotal() {
+		return entries.stream().mapToLong(Entry::getCount).sum();
+	}
+
+	/**
+	 * Returns the publication date of the oldest incomplete publication.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Instant> getOldestPublicationDate() {
+		return entries.stream().findFirst().map(Entry::getOldestPublicationDate);
+	}
+
+	/**
+	 * Returns all {@link Entry}s, ordered by the date of their oldest publication.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<Entry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Returns all {@link Entry}s for the given listener.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Stream<Entry> getEntries(PublicationTargetIdentifier listener) {
+
+		Assert.notNull(listener, "Listener must not be null!");
+
+		return entries.stream().filter(it -> it.getListener().equals(listener));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<Entry> iterator() {
+		return entries.iterator();
+	}
+
+	/**
+	 * The number of incomplete publications of a particular event type to a particular listener.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value(staticConstructor = "of")
+	public static class Entry {
+
+		/**
+		 * The fully-qualified name of the event type.
+		 */
+		@NonNull String eventType;
+		@NonNull PublicationTargetIdentifier listener;
+		long count;
+		@NonNull Instant oldestPublicationDate;
+
+		Entry merge(Entry other) {
+
+			Instant oldest = oldestPublicationDate.isAfter(other.oldestPublicationDate) //
+					? other.oldestPublicationDate //
+					: oldestPublicationDate;
+
+			return Entry.of(eventType, listener, count + other.count, oldest);
+		}
+	}
+}
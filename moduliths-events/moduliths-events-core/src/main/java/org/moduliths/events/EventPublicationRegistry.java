@@ -15,7 +15,11 @@
  */
 package org.moduliths.events;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.context.ApplicationListener;
 import org.springframework.util.Assert;
@@ -36,6 +40,26 @@ public interface EventPublicationRegistry {
 	 */
 	void store(Object event, Stream<PublicationTargetIdentifier> listeners);
 
+	/**
+	 * Stores {@link EventPublication}s for the given event and {@link ApplicationListener}s and returns the number of
+	 * publications actually stored, i.e. not skipped as duplicates. The default implementation considers all
+	 * publications stored, registries able to tell are encouraged to override it.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param listeners must not be {@literal null}.
+	 * @return the number of publications actually stored.
+	 */
+	default long storeAndCount(Object event, Stream<PublicationTargetIdentifier> listeners) {
+
+		Assert.notNull(listeners, "Listeners must not be null!");
+
+		List<PublicationTargetIdentifier> identifiers = listeners.collect(Collectors.toList());
+
+		store(event, identifiers.stream());
+
+		return identifiers.size();
+	}
+
 	/**
 	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as completed.
 	 *
@@ -44,6 +68,22 @@ public interface EventPublicationRegistry {
 	 */
 	void markCompleted(Object event, PublicationTargetIdentifier listener);
 
+	/**
+	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as completed and returns whether
+	 * an incomplete publication was found. The default implementation assumes there was one, registries able to tell are
+	 * encouraged to override it.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param listener must not be {@literal null}.
+	 * @return whether an incomplete publication was found and marked as completed.
+	 */
+	default boolean markCompletedIfIncomplete(Object event, PublicationTargetIdentifier listener) {
+
+		markCompleted(event, listener);
+
+		return true;
+	}
+
 	/**
 	 * Marks the given {@link EventPublication} as completed.
 	 *
@@ -57,9 +97,81 @@ public interface EventPublicationRegistry {
 	}
 
 	/**
-	 * Returns all {@link EventPublication}s that have not been completed yet.
+	 * Marks all given {@link EventPublication}s as completed. Implementations are encouraged to do so in bulk.
+	 *
+	 * @param publications must not be {@literal null}.
+	 */
+	default void markCompleted(Collection<EventPublication> publications) {
+
+		Assert.notNull(publications, "Publications must not be null!");
+
+		publications.forEach(this::markCompleted);
+	}
+
+	/**
+	 * Marks all given {@link EventPublication}s as completed and returns the number of publications that were still
+	 * incomplete. The default implementation considers all of them incomplete, registries able to tell are encouraged to
+	 * override it.
+	 *
+	 * @param publications must not be {@literal null}.
+	 * @return the number of publications that were incomplete and got marked as completed.
+	 */
+	default long markCompletedAndCount(Collection<EventPublication> publications) {
+
+		Assert.notNull(publications, "Publications must not be null!");
+
+		markCompleted(publications);
+
+		return publications.size();
+	}
+
+	/**
+	 * Marks all incomplete {@link EventPublication}s whose time-to-live has passed as completed, without deserializing or
+	 * replaying them. Registries not keeping track of expiration dates return {@literal 0}.
+	 *
+	 * @return the number of publications closed.
+	 * @see TimeToLive
+	 */
+	default long closeExpiredPublications() {
+		return 0;
+	}
+
+	/**
+	 * Returns all {@link EventPublication}s that have not been completed yet. Registries keeping track of expiration
+	 * dates skip expired publications.
 	 *
 	 * @return will never be {@literal null}.
 	 */
 	Iterable<EventPublication> findIncompletePublications();
+
+	/**
+	 * Returns the oldest {@link EventPublication}s to the given listener that have not been completed yet, ordered by
+	 * their publication date.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @param limit the maximum number of publications to return, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	default Iterable<EventPublication> findIncompletePublications(PublicationTargetIdentifier listener, int limit) {
+
+		Assert.notNull(listener, "Listener must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return StreamSupport.stream(findIncompletePublications().spliterator(), false) //
+				.filter(it -> it.isIdentifiedBy(listener)) //
+				.sorted() //
+				.limit(limit) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns a summary of all {@link EventPublication}s that have not been completed yet, grouped by event type and
+	 * listener. Implementations are encouraged to calculate the summary without materializing the individual
+	 * publications.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	default EventPublicationBacklog getBacklog() {
+		return EventPublicationBacklog.from(findIncompletePublications());
+	}
 }
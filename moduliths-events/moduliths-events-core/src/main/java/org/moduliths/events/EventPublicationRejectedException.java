@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Exception thrown if an event cannot be published as the backlog of incomplete publications has exceeded the
+ * configured high-water mark.
+ *
+ * @author Oliver Drotbohm
+ * @see org.moduliths.events.support.PublicationBackpressure
+ */
+public class EventPublicationRejectedException extends RuntimeException {
+
+	private static final long serialVersionUID = -3429017427950741542L;
+
+	/**
+	 * Creates a new {@link EventPublicationRejectedException} with the given message.
+	 *
+	 * @param message must not be {@literal null} or empty.
+	 */
+	public EventPublicationRejectedException(String message) {
+		super(message);
+	}
+
+	/**
+	 * Creates a new {@link EventPublicationRejectedException} with the given message and cause.
+	 *
+	 * @param message must not be {@literal null} or empty.
+	 * @param cause can be {@literal null}.
+	 */
+	public EventPublicationRejectedException(String message, @Nullable Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -15,13 +15,22 @@
  */
 package org.moduliths.events;
 
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
 /**
+ * Serializes events for them to be stored with their publications. The JPA and R2DBC based registries store the
+ * serialized form in a text column and thus require {@link #serialize(Object)} to return a {@link String} or a
+ * {@code byte[]}, which gets Base64-encoded.
+ *
  * @author Oliver Drotbohm
+ * @see org.moduliths.events.support.RoutingEventSerializer
  */
 public interface EventSerializer {
 
 	/**
-	 * Serializes the given event into a storable format.
+	 * Serializes the given event into a storable format, usually a {@link String} or a {@code byte[]}.
 	 *
 	 * @param event must not be {@literal null}.
 	 * @return
@@ -36,4 +45,30 @@ public interface EventSerializer {
 	 * @return
 	 */
 	Object deserialize(Object serialized, Class<?> type);
+
+	/**
+	 * Returns the identifier of the serializer used for events of the given type. Registries record it with each
+	 * publication and hand it back into {@link #deserialize(Object, Class, String)}. Serializers not distinguishing
+	 * between different formats return {@link Optional#empty()}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default Optional<String> getSerializerId(Class<?> type) {
+		return Optional.empty();
+	}
+
+	/**
+	 * Deserializes the event from the serialization format identified by the given serializer identifier into an
+	 * instance of the given type.
+	 *
+	 * @param serialized must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param serializerId the identifier recorded with the publication, can be {@literal null}.
+	 * @return
+	 * @see #getSerializerId(Class)
+	 */
+	default Object deserialize(Object serialized, Class<?> type, @Nullable String serializerId) {
+		return deserialize(serialized, type);
+	}
 }
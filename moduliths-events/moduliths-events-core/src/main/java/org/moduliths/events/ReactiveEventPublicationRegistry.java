@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.Assert;
+
+/**
+ * A non-blocking counterpart of {@link EventPublicationRegistry} to capture event publications to
+ * {@link ApplicationListener}s from reactive applications.
+ *
+ * @author Oliver Drotbohm
+ * @see EventPublicationRegistry
+ */
+public interface ReactiveEventPublicationRegistry {
+
+	/**
+	 * Stores {@link EventPublication}s for the given event and {@link ApplicationListener}s.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param listeners must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<Void> store(Object event, Flux<PublicationTargetIdentifier> listeners);
+
+	/**
+	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as completed.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param listener must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<Void> markCompleted(Object event, PublicationTargetIdentifier listener);
+
+	/**
+	 * Marks the given {@link EventPublication} as completed.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default Mono<Void> markCompleted(EventPublication publication) {
+
+		Assert.notNull(publication, "Publication must not be null!");
+
+		return markCompleted(publication.getEvent(), publication.getTargetIdentifier());
+	}
+
+	/**
+	 * Marks all incomplete {@link EventPublication}s whose time-to-live has passed as completed, without deserializing or
+	 * replaying them. Registries not keeping track of expiration dates emit {@literal 0}.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see TimeToLive
+	 */
+	default Mono<Long> closeExpiredPublications() {
+		return Mono.just(0L);
+	}
+
+	/**
+	 * Returns all {@link EventPublication}s that have not been completed yet. Registries keeping track of expiration
+	 * dates skip expired publications.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Flux<EventPublication> findIncompletePublications();
+
+	/**
+	 * Returns the oldest {@link EventPublication}s to the given listener that have not been completed yet, ordered by
+	 * their publication date.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @param limit the maximum number of publications to return, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	default Flux<EventPublication> findIncompletePublications(PublicationTargetIdentifier listener, int limit) {
+
+		Assert.notNull(listener, "Listener must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return findIncompletePublications() //
+				.filter(it -> it.isIdentifiedBy(listener)) //
+				.sort() //
+				.take(limit);
+	}
+}
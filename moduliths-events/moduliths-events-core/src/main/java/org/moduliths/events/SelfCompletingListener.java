@@ -0,0 +1,28 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events;
+
+import org.springframework.transaction.event.TransactionalApplicationListener;
+
+/**
+ * Marker interface for {@link TransactionalApplicationListener}s that mark the publications they're responsible for
+ * completed themselves, e.g. because the actual processing of the event happens asynchronously after the listener was
+ * invoked. The {@link org.moduliths.events.support.PersistentApplicationEventMulticaster} will not mark publications
+ * to such listeners completed, independent of the configured {@link org.moduliths.events.support.CompletionMode}.
+ *
+ * @author Oliver Drotbohm
+ */
+public interface SelfCompletingListener {}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the time after which the publications of an event type become worthless. Incomplete publications whose
+ * time-to-live has passed are closed by the registry instead of being replayed. The time-to-live can also be
+ * configured via a {@code moduliths.events.time-to-live.${fully-qualified-type-name}} property, which takes precedence
+ * over the annotation.
+ *
+ * @author Oliver Drotbohm
+ * @see org.moduliths.events.support.TimeToLiveResolver
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TimeToLive {
+
+	/**
+	 * The time-to-live of the publications as ISO-8601 duration, e.g. {@code PT5M} for five minutes.
+	 *
+	 * @return
+	 * @see java.time.Duration#parse(CharSequence)
+	 */
+	String value();
+}
@@ -69,6 +69,7 @@ public @interface EnablePersistentDomainEvents {
 			List<String> result = new ArrayList<>();
 
 			result.add(EventPublicationConfiguration.class.getName());
+			result.add(EventSerializationConfiguration.class.getName());
 			result.addAll(loadFactoryNames(EventPublicationConfigurationExtension.class, resourceLoader.getClassLoader()));
 			result.addAll(loadFactoryNames(EventSerializationConfigurationExtension.class, resourceLoader.getClassLoader()));
 
@@ -15,30 +15,75 @@
  */
 package org.moduliths.events.config;
 
+import java.time.Duration;
+
 import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.support.CompletionMode;
 import org.moduliths.events.support.CompletionRegisteringBeanPostProcessor;
 import org.moduliths.events.support.MapEventPublicationRegistry;
 import org.moduliths.events.support.PersistentApplicationEventMulticaster;
+import org.moduliths.events.support.PublicationBackpressure;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
+ * The {@link CompletionMode} can be configured through the {@value #COMPLETION_MODE_PROPERTY} property. A high-water
+ * mark for outstanding publications can be configured through {@value #HIGH_WATER_MARK_PROPERTY}, the
+ * {@link PublicationBackpressure.Policy} to apply once it is exceeded through {@value #BACKPRESSURE_POLICY_PROPERTY}
+ * and the milliseconds to block publishers for through {@value #BACKPRESSURE_TIMEOUT_PROPERTY}.
+ *
  * @author Oliver Drotbohm
  */
 @Configuration(proxyBeanMethods = false)
 class EventPublicationConfiguration {
 
+	static final String COMPLETION_MODE_PROPERTY = "moduliths.events.completion-mode";
+	static final String HIGH_WATER_MARK_PROPERTY = "moduliths.events.backpressure.high-water-mark";
+	static final String BACKPRESSURE_POLICY_PROPERTY = "moduliths.events.backpressure.policy";
+	static final String BACKPRESSURE_TIMEOUT_PROPERTY = "moduliths.events.backpressure.timeout";
+
+	private static final long DEFAULT_BACKPRESSURE_TIMEOUT = 5000;
+
 	@Bean
-	PersistentApplicationEventMulticaster applicationEventMulticaster(ObjectProvider<EventPublicationRegistry> registry) {
+	PersistentApplicationEventMulticaster applicationEventMulticaster(ObjectProvider<EventPublicationRegistry> registry,
+			CompletionRegisteringBeanPostProcessor bpp, PublicationBackpressure backpressure, Environment environment) {
 
-		return new PersistentApplicationEventMulticaster(
-				() -> registry.getIfAvailable(() -> new MapEventPublicationRegistry()));
+		PersistentApplicationEventMulticaster multicaster = new PersistentApplicationEventMulticaster(
+				() -> registry.getIfAvailable(() -> new MapEventPublicationRegistry()), getCompletionMode(environment),
+				bpp::isAsyncListener);
+		multicaster.setBackpressure(backpressure);
+
+		return multicaster;
 	}
 
 	@Bean
-	static CompletionRegisteringBeanPostProcessor bpp(ObjectFactory<EventPublicationRegistry> store) {
-		return new CompletionRegisteringBeanPostProcessor(() -> store.getObject());
+	static CompletionRegisteringBeanPostProcessor bpp(ObjectFactory<EventPublicationRegistry> store,
+			ObjectFactory<PublicationBackpressure> backpressure, Environment environment) {
+
+		return new CompletionRegisteringBeanPostProcessor(() -> backpressure.getObject().track(store.getObject()),
+				getCompletionMode(environment));
+	}
+
+	@Bean
+	PublicationBackpressure publicationBackpressure(Environment environment) {
+
+		Long highWaterMark = environment.getProperty(HIGH_WATER_MARK_PROPERTY, Long.class);
+
+		if (highWaterMark == null) {
+			return PublicationBackpressure.unbounded();
+		}
+
+		PublicationBackpressure.Policy policy = PublicationBackpressure.Policy
+				.from(environment.getProperty(BACKPRESSURE_POLICY_PROPERTY));
+		long timeout = environment.getProperty(BACKPRESSURE_TIMEOUT_PROPERTY, Long.class, DEFAULT_BACKPRESSURE_TIMEOUT);
+
+		return PublicationBackpressure.of(highWaterMark, policy, Duration.ofMillis(timeout));
+	}
+
+	private static CompletionMode getCompletionMode(Environment environment) {
+		return CompletionMode.from(environment.getProperty(COMPLETION_MODE_PROPERTY));
 	}
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.moduliths.events.EventSerializer;
+import org.moduliths.events.SerializedWith;
+import org.moduliths.events.support.RoutingEventSerializer;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Registers a primary {@link RoutingEventSerializer} delegating to all other {@link EventSerializer} beans in case the
+ * default serializer is configured through the {@value #DEFAULT_SERIALIZER_PROPERTY} property. The serializers are
+ * identified by their bean names, which is what {@link SerializedWith} has to refer to and what the routing
+ * {@link EventSerializer} records with each publication. Additional mappings of event types to serializers can be
+ * configured through {@value #MAPPINGS_PROPERTY} as a comma-separated list of {@code fully.qualified.Type=beanName}
+ * pairs.
+ *
+ * @author Oliver Drotbohm
+ */
+@Configuration(proxyBeanMethods = false)
+class EventSerializationConfiguration {
+
+	static final String DEFAULT_SERIALIZER_PROPERTY = "moduliths.events.serialization.default-serializer";
+	static final String MAPPINGS_PROPERTY = "moduliths.events.serialization.mappings";
+
+	@Bean
+	@Primary
+	@Conditional(RoutingConfiguredCondition.class)
+	RoutingEventSerializer routingEventSerializer(ConfigurableListableBeanFactory beanFactory, Environment environment) {
+
+		Map<String, EventSerializer> serializers = new LinkedHashMap<>();
+
+		for (String name : beanFactory.getBeanNamesForType(EventSerializer.class)) {
+
+			if (!beanFactory.isTypeMatch(name, RoutingEventSerializer.class)) {
+				serializers.put(name, beanFactory.getBean(name, EventSerializer.class));
+			}
+		}
+
+		RoutingEventSerializer serializer = RoutingEventSerializer.of(serializers,
+				environment.getRequiredProperty(DEFAULT_SERIALIZER_PROPERTY).trim());
+
+		for (String mapping : environment.getProperty(MAPPINGS_PROPERTY, String[].class, new String[0])) {
+
+			String[] parts = mapping.split("=");
+
+			Assert.isTrue(parts.length == 2,
+					() -> String.format("Invalid serializer mapping %s, expected fully.qualified.Type=beanName!", mapping));
+
+			Class<?> type = ClassUtils.resolveClassName(parts[0].trim(), beanFactory.getBeanClassLoader());
+
+			serializer = serializer.withMapping(type, parts[1].trim());
+		}
+
+		return serializer;
+	}
+
+	/**
+	 * {@link Condition} to only register the {@link RoutingEventSerializer} if a default serializer is configured.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	static class RoutingConfiguredCondition implements Condition {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.annotation.Condition#matches(org.springframework.context.annotation.ConditionContext, org.springframework.core.type.AnnotatedTypeMetadata)
+		 */
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return StringUtils.hasText(context.getEnvironment().getProperty(DEFAULT_SERIALIZER_PROPERTY));
+		}
+	}
+}
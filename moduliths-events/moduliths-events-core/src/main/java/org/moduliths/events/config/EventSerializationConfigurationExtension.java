@@ -16,6 +16,11 @@
 package org.moduliths.events.config;
 
 /**
+ * Marker interface for configuration classes contributing {@link org.moduliths.events.EventSerializer}s, registered in
+ * {@code META-INF/spring.factories}. In case multiple serializers are contributed, the one to use by default has to be
+ * configured via {@code moduliths.events.serialization.default-serializer} to get them routed through a
+ * {@link org.moduliths.events.support.RoutingEventSerializer}.
+ *
  * @author Oliver Gierke
  */
 public interface EventSerializationConfigurationExtension {}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.externalization;
+
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.support.PublicationBackpressure;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Registers the {@link EventExternalizationRelay} for the {@link EventExternalizationTransport} present in the
+ * application context. The batch settings can be customized through the
+ * {@value #BATCH_SIZE_PROPERTY} and {@value #MAX_BATCHES_IN_FLIGHT_PROPERTY} properties. Publications completed by the
+ * relay are accounted for by the {@link PublicationBackpressure} configured, if any.
+ *
+ * @author Oliver Drotbohm
+ */
+@Configuration(proxyBeanMethods = false)
+public class EventExternalizationConfiguration {
+
+	static final String BATCH_SIZE_PROPERTY = "moduliths.events.externalization.batch-size";
+	static final String MAX_BATCHES_IN_FLIGHT_PROPERTY = "moduliths.events.externalization.max-batches-in-flight";
+
+	@Bean
+	EventExternalizationRelay eventExternalizationRelay(ObjectFactory<EventPublicationRegistry> registry,
+			ObjectProvider<PublicationBackpressure> backpressure, EventExternalizationTransport transport,
+			Environment environment) {
+
+		int batchSize = environment.getProperty(BATCH_SIZE_PROPERTY, Integer.class,
+				EventExternalizationRelay.DEFAULT_BATCH_SIZE);
+		int maxBatchesInFlight = environment.getProperty(MAX_BATCHES_IN_FLIGHT_PROPERTY, Integer.class,
+				EventExternalizationRelay.DEFAULT_MAX_BATCHES_IN_FLIGHT);
+
+		return new EventExternalizationRelay(
+				() -> backpressure.getIfAvailable(PublicationBackpressure::unbounded).track(registry.getObject()), transport,
+				batchSize, maxBatchesInFlight);
+	}
+
+	@Bean
+	EventExternalizationListener eventExternalizationListener(EventExternalizationRelay relay) {
+		return new EventExternalizationListener(relay);
+	}
+}
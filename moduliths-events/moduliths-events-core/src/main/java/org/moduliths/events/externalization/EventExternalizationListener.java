@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.externalization;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.moduliths.events.SelfCompletingListener;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A {@link TransactionalApplicationListener} for {@link Externalized} events. Its sole purpose is to get publications
+ * for those events registered with the {@link org.moduliths.events.EventPublicationRegistry} and to trigger the
+ * {@link EventExternalizationRelay} once the publishing transaction has committed. The relay takes care of the actual
+ * delivery and the completion of the publications, which is why the listener is a {@link SelfCompletingListener}.
+ *
+ * @author Oliver Drotbohm
+ */
+@RequiredArgsConstructor
+class EventExternalizationListener
+		implements TransactionalApplicationListener<ApplicationEvent>, GenericApplicationListener,
+		SelfCompletingListener {
+
+	private final @NonNull EventExternalizationRelay relay;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.GenericApplicationListener#supportsEventType(org.springframework.core.ResolvableType)
+	 */
+	@Override
+	public boolean supportsEventType(ResolvableType eventType) {
+
+		Class<?> type = PayloadApplicationEvent.class.isAssignableFrom(eventType.toClass()) //
+				? eventType.as(PayloadApplicationEvent.class).getGeneric().resolve() //
+				: eventType.resolve();
+
+		return type != null && ExternalizedEvent.isExternalized(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			relay.trigger();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.transaction.support.TransactionSynchronization#afterCommit()
+			 */
+			@Override
+			public void afterCommit() {
+				relay.trigger();
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.transaction.event.TransactionalApplicationListener#processEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void processEvent(ApplicationEvent event) {
+		relay.trigger();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.transaction.event.TransactionalApplicationListener#getListenerId()
+	 */
+	@Override
+	public String getListenerId() {
+		return EventExternalizationRelay.TARGET.getValue();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.transaction.event.TransactionalApplicationListener#addCallback(org.springframework.transaction.event.TransactionalApplicationListener.SynchronizationCallback)
+	 */
+	@Override
+	public void addCallback(SynchronizationCallback callback) {}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE;
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.externalization;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.moduliths.events.EventPublication;
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Relays incomplete publications of {@link Externalized} events from the {@link EventPublicationRegistry} to an
+ * {@link EventExternalizationTransport}. Publications are read in windows of {@code batchSize * maxBatchesInFlight},
+ * split into batches that are sent without waiting for the previous ones to be acknowledged and marked completed in
+ * bulk per successfully delivered batch. Failed batches stay incomplete and are sent again on the next run, i.e.
+ * events are delivered at least once.
+ * <p>
+ * The relay drains the backlog on a dedicated thread on application startup and whenever a transaction publishing an
+ * externalized event commits. {@link #externalize()} can also be invoked from a schedule.
+ *
+ * @author Oliver Drotbohm
+ */
+@Slf4j
+public class EventExternalizationRelay implements SmartInitializingSingleton, DisposableBean {
+
+	/**
+	 * The {@link PublicationTargetIdentifier} publications of externalized events are registered for.
+	 */
+	public static final PublicationTargetIdentifier TARGET = PublicationTargetIdentifier
+			.of(EventExternalizationRelay.class.getName());
+
+	static final int DEFAULT_BATCH_SIZE = 100;
+	static final int DEFAULT_MAX_BATCHES_IN_FLIGHT = 4;
+
+	private final Supplier<EventPublicationRegistry> registry;
+	private final EventExternalizationTransport transport;
+	private final int batchSize, maxBatchesInFlight;
+
+	private final ExecutorService executor;
+	private final AtomicBoolean pending = new AtomicBoolean();
+
+	/**
+	 * Creates a new {@link EventExternalizationRelay} for the given {@link EventPublicationRegistry},
+	 * {@link EventExternalizationTransport} and batch settings.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param transport must not be {@literal null}.
+	 * @param batchSize the maximum number of events handed to the transport at once, must be greater than zero.
+	 * @param maxBatchesInFlight the maximum number of batches sent before waiting for their acknowledgement, must be
+	 *          greater than zero.
+	 */
+	public EventExternalizationRelay(Supplier<EventPublicationRegistry> registry, EventExternalizationTransport transport,
+			int batchSize, int maxBatchesInFlight) {
+
+		Assert.notNull(registry, "EventPublicationRegistry must not be null!");
+		Assert.notNull(transport, "EventExternalizationTransport must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		Assert.isTrue(maxBatchesInFlight > 0, "Maximum number of batches in flight must be greater than zero!");
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("moduliths-externalization-");
+		threadFactory.setDaemon(true);
+
+		this.registry = registry;
+		this.transport = transport;
+		this.batchSize = batchSize;
+		this.maxBatchesInFlight = maxBatchesInFlight;
+		this.executor = Executors.newSingleThreadExecutor(threadFactory);
+	}
+
+	/**
+	 * Creates a new {@link EventExternalizationRelay} using the default batch settings.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param transport must not be {@literal null}.
+	 */
+	public EventExternalizationRelay(Supplier<EventPublicationRegistry> registry,
+			EventExternalizationTransport transport) {
+		this(registry, transport, DEFAULT_BATCH_SIZE, DEFAULT_MAX_BATCHES_IN_FLIGHT);
+	}
+
+	/**
+	 * Triggers draining the backlog of externalized events asynchronously. Triggers issued while a run is already
+	 * scheduled are coalesced.
+	 */
+	public void trigger() {
+
+		if (!pending.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			executor.execute(this::drain);
+		} catch (RejectedExecutionException o_O) {
+			LOG.debug("Not externalizing events as the relay has been shut down.");
+		}
+	}
+
+	/**
+	 * Externalizes a single window of incomplete publications.
+	 *
+	 * @return the number of publications successfully externalized and marked completed.
+	 */
+	public int externalize() {
+
+		Iterable<EventPublication> incomplete = registry.get()
+				.findIncompletePublications(TARGET, batchSize * maxBatchesInFlight);
+
+		List<EventPublication> publications = StreamSupport.stream(incomplete.spliterator(), false) //
+				.collect(Collectors.toList());
+
+		List<CompletableFuture<Integer>> deliveries = new ArrayList<>(maxBatchesInFlight);
+
+		for (int i = 0; i < publications.size(); i += batchSize) {
+			deliveries.add(deliver(publications.subList(i, Math.min(i + batchSize, publications.size()))));
+		}
+
+		return deliveries.stream() //
+				.mapToInt(CompletableFuture::join) //
+				.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		trigger();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private void drain() {
+
+		pending.set(false);
+
+		int window = batchSize * maxBatchesInFlight;
+
+		try {
+
+			// Continue as long as full windows were externalized successfully
+			while (externalize() == window) {}
+
+		} catch (RuntimeException o_O) {
+			LOG.warn("Externalizing events failed!", o_O);
+		}
+	}
+
+	private CompletableFuture<Integer> deliver(List<EventPublication> batch) {
+
+		CompletableFuture<Void> delivery;
+
+		try {
+
+			delivery = transport.send(batch.stream() //
+					.map(ExternalizedEvent::from) //
+					.collect(Collectors.toList()));
+
+		} catch (RuntimeException o_O) {
+
+			delivery = new CompletableFuture<>();
+			delivery.completeExceptionally(o_O);
+		}
+
+		return delivery.thenApply(__ -> {
+
+			registry.get().markCompleted(batch);
+
+			return batch.size();
+
+		}).exceptionally(o_O -> {
+
+			LOG.warn("Externalizing batch of {} events failed!", batch.size(), o_O);
+
+			return 0;
+		});
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.externalization;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SPI to forward {@link ExternalizedEvent}s to an external system, e.g. a message broker. Implementations are handed
+ * batches of events and signal successful delivery through the returned {@link CompletableFuture}, so that the
+ * {@link EventExternalizationRelay} can keep multiple batches in flight.
+ *
+ * @author Oliver Drotbohm
+ * @see InMemoryEventExternalizationTransport
+ */
+@FunctionalInterface
+public interface EventExternalizationTransport {
+
+	/**
+	 * Sends the given batch of events. The returned {@link CompletableFuture} has to complete once all events of the
+	 * batch have been accepted by the external system. Completing it exceptionally causes the entire batch to be
+	 * externalized again later, so that events are delivered at least once.
+	 *
+	 * @param events will never be {@literal null} or empty.
+	 * @return must not be {@literal null}.
+	 */
+	CompletableFuture<Void> send(List<ExternalizedEvent> events);
+}
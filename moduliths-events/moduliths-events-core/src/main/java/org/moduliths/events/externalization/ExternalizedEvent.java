@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.externalization;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+import org.moduliths.events.EventPublication;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * An event handed to an {@link EventExternalizationTransport}.
+ *
+ * @author Oliver Drotbohm
+ */
+@Value(staticConstructor = "of")
+public class ExternalizedEvent {
+
+	/**
+	 * The logical target to externalize the event to.
+	 *
+	 * @see Externalized#value()
+	 */
+	String target;
+	Object event;
+	Instant publicationDate;
+
+	/**
+	 * Creates a new {@link ExternalizedEvent} for the given {@link EventPublication}.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ExternalizedEvent from(EventPublication publication) {
+
+		Assert.notNull(publication, "Publication must not be null!");
+
+		Object event = publication.getEvent();
+
+		return of(getTarget(event.getClass()), event, publication.getPublicationDate());
+	}
+
+	/**
+	 * Returns whether the given type is supposed to be externalized.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isExternalized(Class<?> type) {
+		return AnnotatedElementUtils.hasAnnotation(type, Externalized.class);
+	}
+
+	private static String getTarget(Class<?> type) {
+
+		Externalized annotation = AnnotatedElementUtils.findMergedAnnotation(type, Externalized.class);
+
+		return annotation != null && StringUtils.hasText(annotation.value()) //
+				? annotation.value() //
+				: type.getName();
+	}
+}
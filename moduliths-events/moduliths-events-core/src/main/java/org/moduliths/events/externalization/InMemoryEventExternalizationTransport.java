@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.externalization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+/**
+ * An {@link EventExternalizationTransport} that keeps all externalized events in memory, for testing purposes only.
+ *
+ * @author Oliver Drotbohm
+ */
+public class InMemoryEventExternalizationTransport implements EventExternalizationTransport {
+
+	private final List<ExternalizedEvent> events = new CopyOnWriteArrayList<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.externalization.EventExternalizationTransport#send(java.util.List)
+	 */
+	@Override
+	public CompletableFuture<Void> send(List<ExternalizedEvent> events) {
+
+		this.events.addAll(events);
+
+		return CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Returns all events externalized so far, in the order they were sent.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<ExternalizedEvent> getEvents() {
+		return new ArrayList<>(events);
+	}
+
+	/**
+	 * Returns all events externalized to the given target so far.
+	 *
+	 * @param target must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public List<ExternalizedEvent> getEvents(String target) {
+
+		Assert.hasText(target, "Target must not be null or empty!");
+
+		return events.stream() //
+				.filter(it -> it.getTarget().equals(target)) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Removes all events externalized so far.
+	 */
+	public void clear() {
+		events.clear();
+	}
+}
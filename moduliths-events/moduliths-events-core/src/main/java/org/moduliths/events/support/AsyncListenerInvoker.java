@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.moduliths.events.AsyncTransactionalEventListener;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Invokes {@link AsyncTransactionalEventListener} methods on the configured executor and in a new transaction.
+ * Executors and the {@link TransactionTemplate} are resolved from the {@link BeanFactory} lazily on first use, mirroring
+ * the default executor lookup of Spring's {@code @Async} support.
+ *
+ * @author Oliver Drotbohm
+ */
+@Slf4j
+class AsyncListenerInvoker {
+
+	static final String DEFAULT_EXECUTOR_BEAN_NAME = "taskExecutor";
+
+	private final @Nullable BeanFactory beanFactory;
+	private final Map<String, Executor> executors = new ConcurrentHashMap<>();
+	private final Supplier<Optional<TransactionTemplate>> transactions;
+
+	/**
+	 * Creates a new {@link AsyncListenerInvoker} for the given {@link BeanFactory}.
+	 *
+	 * @param beanFactory can be {@literal null}, in which case listeners are invoked on a {@link SimpleAsyncTaskExecutor}
+	 *          without a transaction. The same applies if no unique {@link PlatformTransactionManager} can be found.
+	 */
+	AsyncListenerInvoker(@Nullable BeanFactory beanFactory) {
+
+		this.beanFactory = beanFactory;
+		this.transactions = SingletonSupplier.of(this::createTransactionTemplate);
+	}
+
+	/**
+	 * Proceeds with the given {@link MethodInvocation} asynchronously in a new transaction and invokes the given callback
+	 * once the transaction has committed. Failures are logged and leave the publication incomplete.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @param annotation must not be {@literal null}.
+	 * @param onSuccess must not be {@literal null}.
+	 */
+	void invoke(MethodInvocation invocation, AsyncTransactionalEventListener annotation, Runnable onSuccess) {
+
+		getExecutor(annotation.executor()).execute(() -> {
+
+			try {
+
+				Optional<TransactionTemplate> template = transactions.get();
+
+				if (template.isPresent()) {
+					template.get().executeWithoutResult(__ -> proceed(invocation));
+				} else {
+					proceed(invocation);
+				}
+
+				onSuccess.run();
+
+			} catch (RuntimeException o_O) {
+
+				Throwable cause = o_O instanceof ProceedingFailedException ? o_O.getCause() : o_O;
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("Asynchronous invocation of listener {} failed. Leaving event publication uncompleted.",
+							invocation.getMethod(), cause);
+				} else {
+					LOG.info("Asynchronous invocation of listener {} failed with message {}. "
+							+ "Leaving event publication uncompleted.", invocation.getMethod(), cause.getMessage());
+				}
+			}
+		});
+	}
+
+	private Executor getExecutor(String name) {
+		return executors.computeIfAbsent(name, this::lookupExecutor);
+	}
+
+	private Executor lookupExecutor(String name) {
+
+		if (beanFactory == null) {
+			return new SimpleAsyncTaskExecutor("moduliths-events-");
+		}
+
+		if (StringUtils.hasText(name)) {
+			return beanFactory.getBean(name, Executor.class);
+		}
+
+		try {
+			return beanFactory.getBean(TaskExecutor.class);
+		} catch (NoUniqueBeanDefinitionException o_O) {
+			return beanFactory.getBean(DEFAULT_EXECUTOR_BEAN_NAME, Executor.class);
+		} catch (NoSuchBeanDefinitionException o_O) {
+
+			LOG.debug("No TaskExecutor found, falling back to SimpleAsyncTaskExecutor for asynchronous listeners.");
+
+			return new SimpleAsyncTaskExecutor("moduliths-events-");
+		}
+	}
+
+	private Optional<TransactionTemplate> createTransactionTemplate() {
+
+		if (beanFactory == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(beanFactory.getBeanProvider(PlatformTransactionManager.class).getIfUnique()) //
+				.map(it -> {
+
+					TransactionTemplate template = new TransactionTemplate(it);
+					template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+					return template;
+				});
+	}
+
+	private static void proceed(MethodInvocation invocation) {
+
+		try {
+			invocation.proceed();
+		} catch (RuntimeException o_O) {
+			throw o_O;
+		} catch (Throwable o_O) {
+			throw new ProceedingFailedException(o_O);
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class ProceedingFailedException extends RuntimeException {
+
+		ProceedingFailedException(Throwable cause) {
+			super(cause);
+		}
+	}
+}
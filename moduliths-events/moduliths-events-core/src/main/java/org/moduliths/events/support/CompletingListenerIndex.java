@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Index of the types declaring methods that complete event publications, as written by the
+ * {@code CompletingListenerIndexProcessor} of the {@code moduliths-events-indexer} module. An index file only covers
+ * the types of the code source (JAR or class folder) it is contained in, as the processor only sees the types compiled
+ * alongside it. Types from code sources not containing an index, or inheriting from such types, are always considered
+ * candidates. If no index is present on the classpath, or the {@value #IGNORE_INDEX_PROPERTY} property is set to
+ * {@literal true}, all types are considered candidates.
+ *
+ * @author Oliver Drotbohm
+ */
+@Slf4j
+class CompletingListenerIndex {
+
+	static final String INDEX_LOCATION = "META-INF/moduliths-events.listeners";
+	static final String IGNORE_INDEX_PROPERTY = "moduliths.events.index.ignore";
+
+	private static final CompletingListenerIndex NONE = new CompletingListenerIndex(null, Collections.emptySet());
+	private static final Map<ClassLoader, CompletingListenerIndex> CACHE = new ConcurrentReferenceHashMap<>();
+
+	private final @Nullable Set<String> types;
+	private final Set<String> roots;
+
+	private CompletingListenerIndex(@Nullable Set<String> types, Set<String> roots) {
+
+		this.types = types;
+		this.roots = roots;
+	}
+
+	/**
+	 * Returns the {@link CompletingListenerIndex} for the given {@link ClassLoader}.
+	 *
+	 * @param classLoader can be {@literal null} to use the default class loader.
+	 * @return will never be {@literal null}.
+	 */
+	static CompletingListenerIndex of(@Nullable ClassLoader classLoader) {
+
+		if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+			return NONE;
+		}
+
+		ClassLoader loader = classLoader == null ? ClassUtils.getDefaultClassLoader() : classLoader;
+
+		return loader == null ? NONE : CACHE.computeIfAbsent(loader, CompletingListenerIndex::load);
+	}
+
+	/**
+	 * Returns whether the given type might declare or inherit methods completing event publications. Always returns
+	 * {@literal true} if no index is available or the type or any of its supertypes stem from a code source not
+	 * covered by an index.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	boolean isCandidate(Class<?> type) {
+
+		if (types == null) {
+			return true;
+		}
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			if (isCandidateType(current)) {
+				return true;
+			}
+		}
+
+		return ClassUtils.getAllInterfacesForClassAsSet(type).stream() //
+				.anyMatch(this::isCandidateType);
+	}
+
+	private boolean isCandidateType(Class<?> type) {
+
+		if (types != null && types.contains(type.getName())) {
+			return true;
+		}
+
+		String root = getRoot(type);
+
+		// JDK types don't declare listeners
+		return root != null && !roots.contains(root);
+	}
+
+	private static CompletingListenerIndex load(ClassLoader classLoader) {
+
+		try {
+
+			Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+
+			if (!resources.hasMoreElements()) {
+				return NONE;
+			}
+
+			Set<String> types = new HashSet<>();
+			Set<String> roots = new HashSet<>();
+
+			while (resources.hasMoreElements()) {
+
+				URL resource = resources.nextElement();
+				String location = resource.toExternalForm();
+
+				roots.add(normalize(location.substring(0, location.length() - INDEX_LOCATION.length())));
+
+				try (BufferedReader reader = new BufferedReader(
+						new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+
+					reader.lines().map(String::trim).filter(it -> !it.isEmpty()).forEach(types::add);
+				}
+			}
+
+			LOG.debug("Using index of {} types declaring completing event listeners from {}.", types.size(), roots);
+
+			return new CompletingListenerIndex(Collections.unmodifiableSet(types), Collections.unmodifiableSet(roots));
+
+		} catch (IOException o_O) {
+
+			LOG.warn("Could not read event listener index from {}, inspecting all beans instead.", INDEX_LOCATION, o_O);
+
+			return NONE;
+		}
+	}
+
+	/**
+	 * Returns the normalized location of the code source the given type was loaded from or {@literal null} if it
+	 * cannot be determined, e.g. for JDK types.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	private static String getRoot(Class<?> type) {
+
+		try {
+
+			ProtectionDomain domain = type.getProtectionDomain();
+			CodeSource source = domain == null ? null : domain.getCodeSource();
+			URL location = source == null ? null : source.getLocation();
+
+			return location == null ? null : normalize(location.toExternalForm());
+
+		} catch (SecurityException o_O) {
+			return null;
+		}
+	}
+
+	/**
+	 * Normalizes the given code source location so that both the location of index files and the one of types, either
+	 * as {@code jar:} URLs or plain file URLs, can be compared.
+	 *
+	 * @param location must not be {@literal null}.
+	 * @return
+	 */
+	private static String normalize(String location) {
+
+		String result = location.startsWith("jar:") ? location.substring(4) : location;
+
+		result = result.endsWith("!/") ? result.substring(0, result.length() - 2) : result;
+
+		return result.endsWith("/") ? result.substring(0, result.length() - 1) : result;
+	}
+}
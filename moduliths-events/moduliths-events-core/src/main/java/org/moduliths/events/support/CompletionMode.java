@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import java.util.Locale;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * The strategy to detect the successful completion of transactional event listeners and to mark the corresponding
+ * event publications as completed.
+ *
+ * @author Oliver Drotbohm
+ * @see CompletionRegisteringBeanPostProcessor
+ * @see PersistentApplicationEventMulticaster
+ */
+public enum CompletionMode {
+
+	/**
+	 * Proxies all beans declaring transactional event listeners to mark publications completed once the listener method
+	 * has returned successfully.
+	 */
+	PROXY,
+
+	/**
+	 * Leaves listener beans unproxied and has the {@link PersistentApplicationEventMulticaster} mark publications
+	 * completed around the processing of the event by the {@link org.springframework.context.ApplicationListener} it
+	 * dispatches to. Only beans declaring asynchronous transactional event listeners still get proxied.
+	 */
+	MULTICASTER;
+
+	/**
+	 * Returns the {@link CompletionMode} for the given source value, falling back to {@link #PROXY} if none is given.
+	 *
+	 * @param source can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static CompletionMode from(@Nullable String source) {
+		return source == null || source.trim().isEmpty() ? PROXY : valueOf(source.trim().toUpperCase(Locale.ROOT));
+	}
+}
@@ -15,25 +15,33 @@
  */
 package org.moduliths.events.support;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.aopalliance.aop.Advice;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.moduliths.events.AsyncTransactionalEventListener;
 import org.moduliths.events.EventPublicationRegistry;
 import org.moduliths.events.PublicationTargetIdentifier;
 import org.springframework.aop.framework.Advised;
 import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotatedElementUtils;
@@ -41,22 +49,78 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.ReflectionUtils.MethodCallback;
 
 /**
  * {@link BeanPostProcessor} that will add a
- * {@link org.moduliths.events.support.CompletionRegisteringBeanPostProcessor.ProxyCreatingMethodCallback.CompletionRegisteringMethodInterceptor}
+ * {@link org.moduliths.events.support.CompletionRegisteringBeanPostProcessor.CompletionRegisteringMethodInterceptor}
  * to the bean in case it carries a {@link TransactionalEventListener} annotation so that the successful invocation of
- * those methods mark the event publication to those listeners as completed.
+ * those methods mark the event publication to those listeners as completed. Methods annotated with
+ * {@link AsyncTransactionalEventListener} are invoked asynchronously in a new transaction and the publication is
+ * marked completed once that transaction has committed.
+ * <p>
+ * If an index of listener types created by the {@code moduliths-events-indexer} annotation processor is present, only
+ * beans of indexed types are inspected.
+ * <p>
+ * In {@link CompletionMode#MULTICASTER} the completion of synchronous listeners is registered by the
+ * {@link PersistentApplicationEventMulticaster} and only beans declaring asynchronous listeners are proxied.
  *
  * @author Oliver Drotbohm
  */
-@RequiredArgsConstructor
-public class CompletionRegisteringBeanPostProcessor implements BeanPostProcessor {
+public class CompletionRegisteringBeanPostProcessor
+		implements BeanPostProcessor, BeanFactoryAware, BeanClassLoaderAware {
 
 	private final Supplier<EventPublicationRegistry> registry;
+	private final CompletionMode mode;
+	private final Set<PublicationTargetIdentifier> asyncListeners = ConcurrentHashMap.newKeySet();
+
+	private AsyncListenerInvoker asyncInvoker = new AsyncListenerInvoker(null);
+	private CompletingListenerIndex index = CompletingListenerIndex.of(null);
+
+	/**
+	 * Creates a new {@link CompletionRegisteringBeanPostProcessor} proxying all beans declaring completing listeners.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public CompletionRegisteringBeanPostProcessor(Supplier<EventPublicationRegistry> registry) {
+		this(registry, CompletionMode.PROXY);
+	}
+
+	/**
+	 * Creates a new {@link CompletionRegisteringBeanPostProcessor} for the given {@link CompletionMode}. In
+	 * {@link CompletionMode#MULTICASTER} only beans declaring {@link AsyncTransactionalEventListener}s are proxied.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param mode must not be {@literal null}.
+	 */
+	public CompletionRegisteringBeanPostProcessor(Supplier<EventPublicationRegistry> registry, CompletionMode mode) {
+
+		Assert.notNull(registry, "EventPublicationRegistry must not be null!");
+		Assert.notNull(mode, "CompletionMode must not be null!");
+
+		this.registry = registry;
+		this.mode = mode;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanFactoryAware#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.asyncInvoker = new AsyncListenerInvoker(beanFactory);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanClassLoaderAware#setBeanClassLoader(java.lang.ClassLoader)
+	 */
+	@Override
+	public void setBeanClassLoader(ClassLoader classLoader) {
+		this.index = CompletingListenerIndex.of(classLoader);
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -65,27 +129,67 @@ public class CompletionRegisteringBeanPostProcessor implements BeanPostProcessor
 	@Override
 	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
 
-		ProxyCreatingMethodCallback callback = new ProxyCreatingMethodCallback(registry, beanName, bean, false);
+		Class<?> targetClass = AopProxyUtils.ultimateTargetClass(bean);
+
+		if (!index.isCandidate(targetClass)) {
+			return bean;
+		}
+
+		CompletingMethodsCallback callback = new CompletingMethodsCallback(beanName, targetClass,
+				CompletionMode.MULTICASTER.equals(mode));
+
+		ReflectionUtils.doWithMethods(targetClass, callback);
 
-		ReflectionUtils.doWithMethods(AopProxyUtils.ultimateTargetClass(bean), callback);
+		asyncListeners.addAll(callback.getAsyncListenerIdentifiers());
 
-		return callback.methodFound ? callback.getBean() : bean;
+		return callback.hasCompletingMethods() //
+				? createCompletionRegisteringProxy(bean, callback.toInterceptor(registry, asyncInvoker)) //
+				: bean;
+	}
 
+	/**
+	 * Returns whether the listener with the given identifier is an asynchronous one, i.e. whether the completion of its
+	 * publications is registered by the proxy created for it.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isAsyncListener(PublicationTargetIdentifier identifier) {
+		return asyncListeners.contains(identifier);
+	}
+
+	private static Object createCompletionRegisteringProxy(Object bean, Advice interceptor) {
+
+		if (bean instanceof Advised) {
+
+			Advised advised = (Advised) bean;
+			advised.addAdvice(advised.getAdvisors().length, interceptor);
+
+			return bean;
+		}
+
+		ProxyFactory factory = new ProxyFactory(bean);
+		factory.setProxyTargetClass(true);
+		factory.addAdvice(interceptor);
+
+		return factory.getProxy();
 	}
 
 	/**
-	 * Method callback to find a {@link TransactionalEventListener} method and creating a proxy including an
-	 * {@link CompletionRegisteringBeanPostProcessor} for it or adding the latter to the already existing advisor chain.
+	 * Method callback to find all {@link TransactionalEventListener} methods completing event publications and to
+	 * calculate the {@link PublicationTargetIdentifier}s of their listeners once.
 	 *
 	 * @author Oliver Drotbohm
 	 */
-	@AllArgsConstructor
-	private static class ProxyCreatingMethodCallback implements MethodCallback {
+	@RequiredArgsConstructor
+	private static class CompletingMethodsCallback implements MethodCallback {
+
+		private final @NonNull String beanName;
+		private final @NonNull Class<?> targetClass;
+		private final boolean asyncOnly;
 
-		private @NonNull final Supplier<EventPublicationRegistry> registry;
-		private @NonNull final String beanName;
-		private @NonNull @Getter Object bean;
-		private boolean methodFound;
+		private final Map<Method, PublicationTargetIdentifier> identifiers = new HashMap<>();
+		private final Map<Method, AsyncTransactionalEventListener> asyncListeners = new HashMap<>();
 
 		/*
 		 * (non-Javadoc)
@@ -94,36 +198,92 @@ public class CompletionRegisteringBeanPostProcessor implements BeanPostProcessor
 		@Override
 		public void doWith(Method method) throws IllegalArgumentException, IllegalAccessException {
 
-			if (methodFound || !CompletionRegisteringMethodInterceptor.isCompletingMethod(method)) {
+			if (!isCompletingMethod(method)) {
 				return;
 			}
 
-			this.methodFound = true;
-			this.bean = createCompletionRegisteringProxy(bean,
-					new CompletionRegisteringMethodInterceptor(registry, beanName));
+			AsyncTransactionalEventListener async = AnnotatedElementUtils.getMergedAnnotation(method,
+					AsyncTransactionalEventListener.class);
+
+			if (async == null && asyncOnly) {
+				return;
+			}
+
+			String listenerId = new TransactionalApplicationListenerMethodAdapter(beanName, targetClass, method)
+					.getListenerId();
+
+			identifiers.put(method, PublicationTargetIdentifier.of(listenerId));
+
+			if (async != null) {
+				asyncListeners.put(method, async);
+			}
+		}
+
+		boolean hasCompletingMethods() {
+			return !identifiers.isEmpty();
 		}
 
-		private static Object createCompletionRegisteringProxy(Object bean, Advice interceptor) {
+		Collection<PublicationTargetIdentifier> getAsyncListenerIdentifiers() {
+
+			return asyncListeners.keySet().stream() //
+					.map(identifiers::get) //
+					.collect(Collectors.toList());
+		}
+
+		/**
+		 * Creates a {@link CompletionRegisteringMethodInterceptor} for the completing methods found. Interface methods
+		 * implemented by them are registered, too, so that invocations through JDK proxies get resolved as well.
+		 *
+		 * @param registry must not be {@literal null}.
+		 * @param asyncInvoker must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		CompletionRegisteringMethodInterceptor toInterceptor(Supplier<EventPublicationRegistry> registry,
+				AsyncListenerInvoker asyncInvoker) {
+
+			Map<Method, PublicationTargetIdentifier> identifiers = new HashMap<>(this.identifiers);
+			Map<Method, AsyncTransactionalEventListener> asyncListeners = new HashMap<>(this.asyncListeners);
+
+			for (Class<?> ifc : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+				for (Method method : ifc.getMethods()) {
 
-			if (bean instanceof Advised) {
+					Method implementation = ClassUtils.getMostSpecificMethod(method, targetClass);
+					PublicationTargetIdentifier identifier = this.identifiers.get(implementation);
 
-				Advised advised = (Advised) bean;
-				advised.addAdvice(advised.getAdvisors().length, interceptor);
+					if (identifier != null) {
 
-				return bean;
+						identifiers.put(method, identifier);
+
+						if (this.asyncListeners.containsKey(implementation)) {
+							asyncListeners.put(method, this.asyncListeners.get(implementation));
+						}
+					}
+				}
 			}
 
-			ProxyFactory factory = new ProxyFactory(bean);
-			factory.setProxyTargetClass(true);
-			factory.addAdvice(interceptor);
+			return new CompletionRegisteringMethodInterceptor(registry, asyncInvoker,
+					Collections.unmodifiableMap(identifiers), Collections.unmodifiableMap(asyncListeners));
+		}
 
-			return factory.getProxy();
+		/**
+		 * Returns whether the given method is one that requires publication completion.
+		 *
+		 * @param method must not be {@literal null}.
+		 * @return
+		 */
+		private static boolean isCompletingMethod(Method method) {
+
+			TransactionalEventListener annotation = AnnotatedElementUtils.getMergedAnnotation(method,
+					TransactionalEventListener.class);
+
+			return annotation == null ? false : annotation.phase().equals(TransactionPhase.AFTER_COMMIT);
 		}
 	}
 
 	/**
 	 * {@link MethodInterceptor} to trigger the completion of an event publication after a transaction event listener
-	 * method has been completed successfully.
+	 * method has been completed successfully. Holds the {@link PublicationTargetIdentifier}s of all completing methods of
+	 * the proxied bean so that no lookups are necessary on invocation.
 	 *
 	 * @author Oliver Drotbohm
 	 */
@@ -131,13 +291,10 @@ public class CompletionRegisteringBeanPostProcessor implements BeanPostProcessor
 	@RequiredArgsConstructor
 	private static class CompletionRegisteringMethodInterceptor implements MethodInterceptor, Ordered {
 
-		private static final ConcurrentLruCache<Method, Boolean> COMPLETING_METHOD = new ConcurrentLruCache<>(100,
-				CompletionRegisteringMethodInterceptor::calculateIsCompletingMethod);
-		private static final ConcurrentLruCache<CacheKey, TransactionalApplicationListenerMethodAdapter> ADAPTERS = new ConcurrentLruCache<>(
-				100, CompletionRegisteringMethodInterceptor::createAdapter);
-
 		private final @NonNull Supplier<EventPublicationRegistry> registry;
-		private final @NonNull String beanName;
+		private final @NonNull AsyncListenerInvoker asyncInvoker;
+		private final @NonNull Map<Method, PublicationTargetIdentifier> identifiers;
+		private final @NonNull Map<Method, AsyncTransactionalEventListener> asyncListeners;
 
 		/*
 		 * (non-Javadoc)
@@ -146,17 +303,29 @@ public class CompletionRegisteringBeanPostProcessor implements BeanPostProcessor
 		@Override
 		public Object invoke(MethodInvocation invocation) throws Throwable {
 
-			Object result = null;
 			Method method = invocation.getMethod();
+			PublicationTargetIdentifier identifier = identifiers.get(method);
+
+			if (identifier == null) {
+				return invocation.proceed();
+			}
+
+			Object event = invocation.getArguments()[0];
+			AsyncTransactionalEventListener async = asyncListeners.get(method);
+
+			if (async != null) {
+
+				asyncInvoker.invoke(invocation, async, () -> registry.get().markCompleted(event, identifier));
+
+				return null;
+			}
+
+			Object result = null;
 
 			try {
 				result = invocation.proceed();
 			} catch (Exception o_O) {
 
-				if (!isCompletingMethod(method)) {
-					throw o_O;
-				}
-
 				if (LOG.isDebugEnabled()) {
 					LOG.debug("Invocation of listener {} failed. Leaving event publication uncompleted.", method, o_O);
 				} else {
@@ -167,14 +336,8 @@ public class CompletionRegisteringBeanPostProcessor implements BeanPostProcessor
 				return result;
 			}
 
-			if (!isCompletingMethod(method)) {
-				return result;
-			}
-
 			// Mark publication complete if the method is a transactional event listener.
-			String adapterId = ADAPTERS.get(CacheKey.of(beanName, method)).getListenerId();
-			PublicationTargetIdentifier identifier = PublicationTargetIdentifier.of(adapterId);
-			registry.get().markCompleted(invocation.getArguments()[0], identifier);
+			registry.get().markCompleted(event, identifier);
 
 			return result;
 		}
@@ -187,38 +350,5 @@ public class CompletionRegisteringBeanPostProcessor implements BeanPostProcessor
 		public int getOrder() {
 			return Ordered.HIGHEST_PRECEDENCE - 10;
 		}
-
-		/**
-		 * Returns whether the given method is one that requires publication completion.
-		 *
-		 * @param method must not be {@literal null}.
-		 * @return
-		 */
-		static boolean isCompletingMethod(Method method) {
-
-			Assert.notNull(method, "Method must not be null!");
-
-			return COMPLETING_METHOD.get(method);
-		}
-
-		private static boolean calculateIsCompletingMethod(Method method) {
-
-			TransactionalEventListener annotation = AnnotatedElementUtils.getMergedAnnotation(method,
-					TransactionalEventListener.class);
-
-			return annotation == null ? false : annotation.phase().equals(TransactionPhase.AFTER_COMMIT);
-		}
-
-		private static TransactionalApplicationListenerMethodAdapter createAdapter(CacheKey key) {
-			return new TransactionalApplicationListenerMethodAdapter(key.beanName, key.method.getDeclaringClass(),
-					key.method);
-		}
-	}
-
-	@Value(staticConstructor = "of")
-	static class CacheKey {
-
-		String beanName;
-		Method method;
 	}
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.moduliths.events.DeduplicationKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Resolves the deduplication key for an event as declared via {@link DeduplicationKey}. The way to obtain the key is
+ * inspected once per event type and cached.
+ *
+ * @author Oliver Drotbohm
+ * @see DeduplicationKey
+ */
+public class DeduplicationKeyResolver {
+
+	private final Map<Class<?>, KeyExtractor> extractors = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Returns the deduplication key for the given event.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param serializedEvent provides the serialized form of the event in case the key is a content hash, must not be
+	 *          {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<String> resolve(Object event, Supplier<Object> serializedEvent) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(serializedEvent, "Serialized event must not be null!");
+
+		KeyExtractor extractor = extractors.computeIfAbsent(event.getClass(), DeduplicationKeyResolver::createExtractor);
+
+		return Optional.ofNullable(extractor.extract(event, serializedEvent)).map(Object::toString);
+	}
+
+	private static KeyExtractor createExtractor(Class<?> type) {
+
+		Method[] method = new Method[1];
+
+		ReflectionUtils.doWithMethods(type, it -> method[0] = it, //
+				it -> method[0] == null //
+						&& it.getParameterCount() == 0 //
+						&& AnnotatedElementUtils.hasAnnotation(it, DeduplicationKey.class));
+
+		if (method[0] != null) {
+
+			ReflectionUtils.makeAccessible(method[0]);
+
+			return (event, __) -> ReflectionUtils.invokeMethod(method[0], event);
+		}
+
+		Field[] field = new Field[1];
+
+		ReflectionUtils.doWithFields(type, it -> field[0] = it, //
+				it -> field[0] == null && AnnotatedElementUtils.hasAnnotation(it, DeduplicationKey.class));
+
+		if (field[0] != null) {
+
+			ReflectionUtils.makeAccessible(field[0]);
+
+			return (event, __) -> ReflectionUtils.getField(field[0], event);
+		}
+
+		if (AnnotatedElementUtils.hasAnnotation(type, DeduplicationKey.class)) {
+			return (__, serialized) -> {
+
+				Object value = serialized.get();
+
+				return DigestUtils.md5DigestAsHex(value instanceof byte[] //
+						? (byte[]) value //
+						: value.toString().getBytes(StandardCharsets.UTF_8));
+			};
+		}
+
+		return (__, ___) -> null;
+	}
+
+	private interface KeyExtractor {
+
+		@Nullable
+		Object extract(Object event, Supplier<Object> serializedEvent);
+	}
+}
@@ -17,8 +17,10 @@ package org.moduliths.events.support;
 
 import lombok.Value;
 
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,7 +36,7 @@ import org.moduliths.events.PublicationTargetIdentifier;
  */
 public class MapEventPublicationRegistry implements EventPublicationRegistry {
 
-	private final Map<Key, CompletableEventPublication> events = new HashMap<>();
+	private final Map<Key, CompletableEventPublication> events = new ConcurrentHashMap<>();
 
 	/*
 	 * (non-Javadoc)
@@ -55,10 +57,29 @@ public class MapEventPublicationRegistry implements EventPublicationRegistry {
 	 */
 	@Override
 	public void store(Object event, Stream<PublicationTargetIdentifier> identifiers) {
+		storeAndCount(event, identifiers);
+	}
 
-		identifiers.forEach(id -> {
-			events.computeIfAbsent(Key.of(event, id), it -> CompletableEventPublication.of(event, id));
-		});
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#storeAndCount(java.lang.Object, java.util.stream.Stream)
+	 */
+	@Override
+	public long storeAndCount(Object event, Stream<PublicationTargetIdentifier> identifiers) {
+
+		Iterator<PublicationTargetIdentifier> iterator = identifiers.iterator();
+		long stored = 0;
+
+		while (iterator.hasNext()) {
+
+			PublicationTargetIdentifier id = iterator.next();
+
+			if (events.putIfAbsent(Key.of(event, id), CompletableEventPublication.of(event, id)) == null) {
+				stored++;
+			}
+		}
+
+		return stored;
 	}
 
 	/*
@@ -67,7 +88,30 @@ public class MapEventPublicationRegistry implements EventPublicationRegistry {
 	 */
 	@Override
 	public void markCompleted(Object event, PublicationTargetIdentifier id) {
-		events.computeIfPresent(Key.of(event, id), (__, value) -> value.markCompleted());
+		markCompletedIfIncomplete(event, id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#markCompletedIfIncomplete(java.lang.Object, org.moduliths.events.PublicationTargetIdentifier)
+	 */
+	@Override
+	public boolean markCompletedIfIncomplete(Object event, PublicationTargetIdentifier id) {
+
+		AtomicBoolean completed = new AtomicBoolean();
+
+		// Atomic per key so that concurrent callers can't both see the publication incomplete
+		events.computeIfPresent(Key.of(event, id), (key, publication) -> {
+
+			if (!publication.isPublicationCompleted()) {
+				completed.set(true);
+				return publication.markCompleted();
+			}
+
+			return publication;
+		});
+
+		return completed.get();
 	}
 
 	@Value(staticConstructor = "of")
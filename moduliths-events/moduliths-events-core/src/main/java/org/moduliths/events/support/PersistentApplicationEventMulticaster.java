@@ -21,14 +21,21 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.moduliths.events.EventPublication;
 import org.moduliths.events.EventPublicationRegistry;
 import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.SelfCompletingListener;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationListener;
@@ -37,8 +44,10 @@ import org.springframework.context.event.AbstractApplicationEventMulticaster;
 import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.transaction.event.TransactionalApplicationListener.SynchronizationCallback;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.Assert;
 
@@ -47,18 +56,75 @@ import org.springframework.util.Assert;
  * so that potentially failing transactional event listeners can get re-invoked upon application restart or via a
  * schedule.
  * <p>
- * Republication is handled in {@link #afterSingletonsInstantiated()} inspecting the {@link EventPublicationRegistry}
- * for incomplete publications and
+ * Republication is handled in {@link #afterSingletonsInstantiated()} closing expired publications and inspecting the
+ * {@link EventPublicationRegistry} for incomplete publications and can be triggered for individual listeners via
+ * {@link #resubmitIncompletePublications(PublicationTargetIdentifier, int)}.
+ * <p>
+ * By default, the completion of publications is registered by proxies created by the
+ * {@link CompletionRegisteringBeanPostProcessor}. In {@link CompletionMode#MULTICASTER}, the multicaster registers a
+ * {@link SynchronizationCallback} with the {@link TransactionalApplicationListener}s it dispatches to instead, so that
+ * the listener beans do not need to be proxied. Publications to {@link SelfCompletingListener}s are never marked
+ * completed by the multicaster.
  *
  * @author Oliver Drotbohm
  * @see CompletionRegisteringBeanPostProcessor
  */
 @Slf4j
-@RequiredArgsConstructor
 public class PersistentApplicationEventMulticaster extends AbstractApplicationEventMulticaster
 		implements SmartInitializingSingleton {
 
-	private final @NonNull Supplier<EventPublicationRegistry> registry;
+	private final Supplier<EventPublicationRegistry> registry;
+	private final CompletionMode mode;
+	private final Predicate<PublicationTargetIdentifier> completedByProxy;
+	private final Set<TransactionalApplicationListener<?>> trackedListeners = ConcurrentHashMap.newKeySet();
+	private final AtomicReference<ResubmissionProgress> progress = new AtomicReference<>();
+
+	private PublicationBackpressure backpressure = PublicationBackpressure.unbounded();
+
+	/**
+	 * Creates a new {@link PersistentApplicationEventMulticaster} for the given {@link EventPublicationRegistry},
+	 * expecting the completion of publications to be registered by the {@link CompletionRegisteringBeanPostProcessor}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry) {
+		this(registry, CompletionMode.PROXY, __ -> true);
+	}
+
+	/**
+	 * Creates a new {@link PersistentApplicationEventMulticaster} for the given {@link EventPublicationRegistry} and
+	 * {@link CompletionMode}. In {@link CompletionMode#MULTICASTER} the multicaster itself marks publications completed
+	 * once the {@link TransactionalApplicationListener}s it dispatches to have processed the event successfully, except
+	 * for the ones the given {@link Predicate} identifies as completed by a proxy.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param mode must not be {@literal null}.
+	 * @param completedByProxy must not be {@literal null}.
+	 */
+	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry, CompletionMode mode,
+			Predicate<PublicationTargetIdentifier> completedByProxy) {
+
+		Assert.notNull(registry, "EventPublicationRegistry must not be null!");
+		Assert.notNull(mode, "CompletionMode must not be null!");
+		Assert.notNull(completedByProxy, "Proxy completion predicate must not be null!");
+
+		this.registry = registry;
+		this.mode = mode;
+		this.completedByProxy = completedByProxy;
+	}
+
+	/**
+	 * Configures the {@link PublicationBackpressure} to apply to new publications. Defaults to
+	 * {@link PublicationBackpressure#unbounded()}.
+	 *
+	 * @param backpressure must not be {@literal null}.
+	 */
+	public void setBackpressure(PublicationBackpressure backpressure) {
+
+		Assert.notNull(backpressure, "PublicationBackpressure must not be null!");
+
+		this.backpressure = backpressure;
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -86,9 +152,16 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 
 		TransactionalEventListeners txListeners = new TransactionalEventListeners(listeners);
 		Object eventToPersist = getEventToPersist(event);
-		registry.get().store(eventToPersist, txListeners.stream() //
-				.map(TransactionalApplicationListener::getListenerId) //
-				.map(PublicationTargetIdentifier::of));
+
+		// Shed publications are not stored but the event is still handed to all listeners
+		if (backpressure.admit(eventToPersist, txListeners.stream().count())) {
+
+			txListeners.forEach(this::registerCompletionCallback);
+
+			getRegistry().store(eventToPersist, txListeners.stream() //
+					.map(TransactionalApplicationListener::getListenerId) //
+					.map(PublicationTargetIdentifier::of));
+		}
 
 		for (ApplicationListener listener : listeners) {
 			listener.onApplicationEvent(event);
@@ -102,24 +175,101 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	@Override
 	public void afterSingletonsInstantiated() {
 
-		for (EventPublication publication : registry.get().findIncompletePublications()) {
-			invokeTargetListener(publication);
+		long expired = getRegistry().closeExpiredPublications();
+
+		if (expired > 0) {
+			LOG.info("Closed {} expired publication(s) without resubmitting them.", expired);
+		}
+
+		resubmit(null, getRegistry().findIncompletePublications(), true);
+
+		if (backpressure.isBounded()) {
+			LOG.debug("{} publications outstanding after resubmission.", getRegistry().getBacklog().getTotal());
 		}
 	}
 
-	private void invokeTargetListener(EventPublication publication) {
+	/**
+	 * Resubmits the oldest incomplete publications to the given listener, up to the given limit. Failing listener
+	 * invocations are logged and counted but do not abort the resubmission.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @param limit the maximum number of publications to resubmit, must be greater than zero.
+	 * @return the {@link ResubmissionProgress} after the resubmission, will never be {@literal null}.
+	 * @throws IllegalStateException in case another resubmission is currently running.
+	 */
+	public ResubmissionProgress resubmitIncompletePublications(PublicationTargetIdentifier listener, int limit) {
+
+		Assert.notNull(listener, "Listener must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return resubmit(listener, getRegistry().findIncompletePublications(listener, limit), false);
+	}
+
+	/**
+	 * Returns the progress of the current or most recent resubmission of incomplete publications.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<ResubmissionProgress> getResubmissionProgress() {
+		return Optional.ofNullable(progress.get());
+	}
+
+	private ResubmissionProgress resubmit(@Nullable PublicationTargetIdentifier listener,
+			Iterable<EventPublication> publications, boolean failFast) {
+
+		List<EventPublication> pending = StreamSupport.stream(publications.spliterator(), false) //
+				.collect(Collectors.toList());
+
+		ResubmissionProgress current = progress.get();
+
+		if (current != null && current.isRunning()
+				|| !progress.compareAndSet(current, ResubmissionProgress.started(listener, pending.size()))) {
+			throw new IllegalStateException("Resubmission of incomplete publications already in progress!");
+		}
+
+		try {
+
+			for (EventPublication publication : pending) {
+
+				try {
+
+					boolean invoked = invokeTargetListener(publication);
+					progress.updateAndGet(it -> invoked ? it.resubmitted() : it.skipped());
+
+				} catch (RuntimeException o_O) {
+
+					progress.updateAndGet(ResubmissionProgress::failed);
+
+					if (failFast) {
+						throw o_O;
+					}
+
+					LOG.warn("Resubmission of publication of {} to {} failed!", //
+							publication.getEvent().getClass(), publication.getTargetIdentifier(), o_O);
+				}
+			}
+
+		} finally {
+			progress.updateAndGet(ResubmissionProgress::completed);
+		}
+
+		return progress.get();
+	}
+
+	private boolean invokeTargetListener(EventPublication publication) {
 
 		TransactionalEventListeners listeners = new TransactionalEventListeners(
 				getApplicationListeners());
 
-		listeners.stream() //
+		return listeners.stream() //
 				.filter(it -> publication.isIdentifiedBy(PublicationTargetIdentifier.of(it.getListenerId()))) //
 				.findFirst() //
 				.map(it -> executeListenerWithCompletion(publication, it)) //
+				.map(__ -> true) //
 				.orElseGet(() -> {
 
 					LOG.debug("Listener {} not found!", publication.getTargetIdentifier());
-					return null;
+					return false;
 				});
 	}
 
@@ -128,9 +278,47 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 
 		listener.processEvent(publication.getApplicationEvent());
 
+		if (tracksCompletionOf(listener)) {
+			getRegistry().markCompleted(publication);
+		}
+
 		return listener;
 	}
 
+	/**
+	 * Registers a {@link CompletionRegisteringCallback} with the given listener if the multicaster is responsible for
+	 * tracking the completion of its publications. Listeners only get a callback registered once.
+	 *
+	 * @param listener must not be {@literal null}.
+	 */
+	private void registerCompletionCallback(TransactionalApplicationListener<?> listener) {
+
+		if (!tracksCompletionOf(listener) || !trackedListeners.add(listener)) {
+			return;
+		}
+
+		listener.addCallback(new CompletionRegisteringCallback(this::getRegistry,
+				PublicationTargetIdentifier.of(listener.getListenerId())));
+	}
+
+	/**
+	 * Returns the {@link EventPublicationRegistry} to use, tracking outstanding publications for the configured
+	 * {@link PublicationBackpressure}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private EventPublicationRegistry getRegistry() {
+		return backpressure.track(registry.get());
+	}
+
+	private boolean tracksCompletionOf(TransactionalApplicationListener<?> listener) {
+
+		return CompletionMode.MULTICASTER.equals(mode) //
+				&& !SelfCompletingListener.class.isInstance(listener) //
+				&& TransactionPhase.AFTER_COMMIT.equals(listener.getTransactionPhase()) //
+				&& !completedByProxy.test(PublicationTargetIdentifier.of(listener.getListenerId()));
+	}
+
 	private static Object getEventToPersist(ApplicationEvent event) {
 
 		return PayloadApplicationEvent.class.isInstance(event) //
@@ -138,6 +326,37 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 				: event;
 	}
 
+	/**
+	 * {@link SynchronizationCallback} to mark the publication of an event to a {@link TransactionalApplicationListener}
+	 * completed once the listener has processed it without an exception.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	private static class CompletionRegisteringCallback implements SynchronizationCallback {
+
+		private final @NonNull Supplier<EventPublicationRegistry> registry;
+		private final @NonNull PublicationTargetIdentifier identifier;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.event.TransactionalApplicationListener.SynchronizationCallback#postProcessEvent(org.springframework.context.ApplicationEvent, java.lang.Throwable)
+		 */
+		@Override
+		public void postProcessEvent(ApplicationEvent event, @Nullable Throwable ex) {
+
+			if (ex != null) {
+
+				LOG.info("Invocation of listener {} failed with message {}. Leaving event publication uncompleted.",
+						identifier, ex.getMessage());
+
+				return;
+			}
+
+			registry.get().markCompleted(getEventToPersist(event), identifier);
+		}
+	}
+
 	/**
 	 * First-class collection to work with transactional event listeners, i.e. {@link ApplicationListener} instances that
 	 * implement {@link TransactionalEventListenerMetadata}.
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.moduliths.events.EventPublication;
+import org.moduliths.events.EventPublicationBacklog;
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.EventPublicationRejectedException;
+import org.moduliths.events.NonCritical;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Limits the number of outstanding event publications to a high-water mark. The number of outstanding publications is
+ * tracked in memory by the {@link EventPublicationRegistry} returned from {@link #track(EventPublicationRegistry)}. It
+ * counts the publications actually stored and completed and gets re-synchronized with the actual backlog whenever the
+ * latter is calculated. As the count can still drift, e.g. for publications stored in transactions that are rolled
+ * back, it is also re-synchronized once the high-water mark is hit, at most once per {@link #RESYNC_INTERVAL}. Only
+ * then are new publications handled according to the configured {@link Policy}.
+ *
+ * @author Oliver Drotbohm
+ * @see PersistentApplicationEventMulticaster#setBackpressure(PublicationBackpressure)
+ */
+@Slf4j
+public class PublicationBackpressure {
+
+	static final Duration RESYNC_INTERVAL = Duration.ofSeconds(1);
+
+	private static final long UNBOUNDED = Long.MAX_VALUE;
+
+	private final long highWaterMark;
+	private final Policy policy;
+	private final Duration timeout;
+
+	private final AtomicLong outstanding = new AtomicLong();
+	private final AtomicLong lastSynchronization = new AtomicLong(System.nanoTime() - RESYNC_INTERVAL.toNanos());
+	private final Object monitor = new Object();
+	private int waiting = 0;
+
+	private volatile @Nullable TrackingEventPublicationRegistry tracking;
+
+	private PublicationBackpressure(long highWaterMark, Policy policy, Duration timeout) {
+
+		Assert.isTrue(highWaterMark > 0, "High-water mark must be greater than zero!");
+		Assert.notNull(policy, "Policy must not be null!");
+		Assert.notNull(timeout, "Timeout must not be null!");
+		Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative!");
+
+		this.highWaterMark = highWaterMark;
+		this.policy = policy;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Creates a {@link PublicationBackpressure} that never limits publications.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static PublicationBackpressure unbounded() {
+		return new PublicationBackpressure(UNBOUNDED, Policy.BLOCK, Duration.ZERO);
+	}
+
+	/**
+	 * Creates a {@link PublicationBackpressure} for the given high-water mark, {@link Policy} and timeout to wait for the
+	 * backlog to drain in case of {@link Policy#BLOCK}.
+	 *
+	 * @param highWaterMark must be greater than zero.
+	 * @param policy must not be {@literal null}.
+	 * @param timeout must not be {@literal null} or negative.
+	 * @return will never be {@literal null}.
+	 */
+	public static PublicationBackpressure of(long highWaterMark, Policy policy, Duration timeout) {
+		return new PublicationBackpressure(highWaterMark, policy, timeout);
+	}
+
+	/**
+	 * Returns whether the backpressure limits the number of outstanding publications at all.
+	 *
+	 * @return
+	 */
+	public boolean isBounded() {
+		return highWaterMark != UNBOUNDED;
+	}
+
+	/**
+	 * Returns the number of publications currently considered outstanding.
+	 *
+	 * @return
+	 */
+	public long getOutstandingPublications() {
+		return outstanding.get();
+	}
+
+	/**
+	 * Returns an {@link EventPublicationRegistry} delegating to the given one and keeping track of the number of
+	 * outstanding publications. Repeated calls for the same registry return the same instance.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public EventPublicationRegistry track(EventPublicationRegistry registry) {
+
+		Assert.notNull(registry, "EventPublicationRegistry must not be null!");
+
+		if (!isBounded()) {
+			return registry;
+		}
+
+		TrackingEventPublicationRegistry current = tracking;
+
+		if (current != null && current.delegate == registry) {
+			return current;
+		}
+
+		current = new TrackingEventPublicationRegistry(registry);
+		this.tracking = current;
+
+		return current;
+	}
+
+	/**
+	 * Returns whether the given number of publications of the given event may be stored. Blocks until the backlog has
+	 * drained below the high-water mark in case of {@link Policy#BLOCK}.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param publications the number of publications to be stored.
+	 * @return {@literal false} in case the publication is supposed to be dropped.
+	 * @throws EventPublicationRejectedException in case the publication was rejected or waiting for the backlog to drain
+	 *           timed out.
+	 */
+	boolean admit(Object event, long publications) {
+
+		if (!isBounded() || publications == 0 || hasCapacityFor(publications)) {
+			return true;
+		}
+
+		if (resynchronize() && hasCapacityFor(publications)) {
+			return true;
+		}
+
+		switch (policy) {
+
+			case SHED:
+
+				if (!AnnotatedElementUtils.hasAnnotation(event.getClass(), NonCritical.class)) {
+					return true;
+				}
+
+				LOG.debug("Dropping publication of {} as {} publications are outstanding.", event.getClass(),
+						outstanding.get());
+
+				return false;
+
+			case REJECT:
+				throw new EventPublicationRejectedException(getRejectionMessage(event));
+
+			case BLOCK:
+			default:
+				awaitCapacity(event, publications);
+				return true;
+		}
+	}
+
+	private void awaitCapacity(Object event, long publications) {
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+
+		while (!hasCapacityFor(publications)) {
+
+			synchronized (monitor) {
+
+				long remaining = deadline - System.nanoTime();
+
+				if (remaining <= 0) {
+					throw new EventPublicationRejectedException(getRejectionMessage(event));
+				}
+
+				waiting++;
+
+				try {
+
+					// Wake up regularly to re-synchronize with the actual backlog in case the count drifted
+					TimeUnit.NANOSECONDS.timedWait(monitor, Math.min(remaining, RESYNC_INTERVAL.toNanos()));
+
+				} catch (InterruptedException o_O) {
+
+					Thread.currentThread().interrupt();
+
+					throw new EventPublicationRejectedException(getRejectionMessage(event), o_O);
+
+				} finally {
+					waiting--;
+				}
+			}
+
+			resynchronize();
+		}
+	}
+
+	private boolean hasCapacityFor(long publications) {
+		return outstanding.get() + publications <= highWaterMark;
+	}
+
+	/**
+	 * Re-synchronizes the number of outstanding publications with the backlog of the tracked registry unless that has
+	 * already happened within the last {@link #RESYNC_INTERVAL}.
+	 *
+	 * @return whether the number of outstanding publications was re-synchronized.
+	 */
+	private boolean resynchronize() {
+
+		TrackingEventPublicationRegistry current = tracking;
+		long last = lastSynchronization.get();
+		long now = System.nanoTime();
+
+		if (current == null || now - last < RESYNC_INTERVAL.toNanos() || !lastSynchronization.compareAndSet(last, now)) {
+			return false;
+		}
+
+		try {
+
+			current.getBacklog();
+
+			return true;
+
+		} catch (RuntimeException o_O) {
+
+			LOG.debug("Could not re-synchronize outstanding publications with backlog!", o_O);
+
+			return false;
+		}
+	}
+
+	private void stored(long publications) {
+		outstanding.addAndGet(publications);
+	}
+
+	private void completed(long publications) {
+
+		outstanding.updateAndGet(it -> Math.max(0, it - publications));
+		signal();
+	}
+
+	private void synchronize(EventPublicationBacklog backlog) {
+
+		outstanding.set(backlog.getTotal());
+		lastSynchronization.set(System.nanoTime());
+		signal();
+	}
+
+	private void signal() {
+
+		synchronized (monitor) {
+			if (waiting > 0) {
+				monitor.notifyAll();
+			}
+		}
+	}
+
+	private String getRejectionMessage(Object event) {
+
+		return String.format("Rejecting publication of %s as %s publications are outstanding (high-water mark %s)!",
+				event.getClass().getName(), outstanding.get(), highWaterMark);
+	}
+
+	/**
+	 * The policy to apply to new publications once the high-water mark of outstanding publications is exceeded.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	public enum Policy {
+
+		/**
+		 * Blocks the publishing thread until the backlog has drained below the high-water mark or the configured timeout
+		 * has passed, rejecting the publication in the latter case.
+		 */
+		BLOCK,
+
+		/**
+		 * Rejects the publication by throwing an {@link EventPublicationRejectedException}.
+		 */
+		REJECT,
+
+		/**
+		 * Drops the publication of events of types annotated with {@link NonCritical}, stores all others.
+		 */
+		SHED;
+
+		/**
+		 * Returns the {@link Policy} for the given source value, falling back to {@link #BLOCK} if none is given.
+		 *
+		 * @param source can be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public static Policy from(@Nullable String source) {
+			return source == null || source.trim().isEmpty() ? BLOCK : valueOf(source.trim().toUpperCase(Locale.ROOT));
+		}
+	}
+
+	/**
+	 * {@link EventPublicationRegistry} to count the publications actually stored and completed by the delegate.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	private class TrackingEventPublicationRegistry implements EventPublicationRegistry {
+
+		private final @NonNull EventPublicationRegistry delegate;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#store(java.lang.Object, java.util.stream.Stream)
+		 */
+		@Override
+		public void store(Object event, Stream<PublicationTargetIdentifier> listeners) {
+			storeAndCount(event, listeners);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#storeAndCount(java.lang.Object, java.util.stream.Stream)
+		 */
+		@Override
+		public long storeAndCount(Object event, Stream<PublicationTargetIdentifier> listeners) {
+
+			long stored = delegate.storeAndCount(event, listeners);
+			stored(stored);
+
+			return stored;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#markCompleted(java.lang.Object, org.moduliths.events.PublicationTargetIdentifier)
+		 */
+		@Override
+		public void markCompleted(Object event, PublicationTargetIdentifier listener) {
+			markCompletedIfIncomplete(event, listener);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#markCompletedIfIncomplete(java.lang.Object, org.moduliths.events.PublicationTargetIdentifier)
+		 */
+		@Override
+		public boolean markCompletedIfIncomplete(Object event, PublicationTargetIdentifier listener) {
+
+			boolean completed = delegate.markCompletedIfIncomplete(event, listener);
+
+			if (completed) {
+				completed(1);
+			}
+
+			return completed;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#markCompleted(java.util.Collection)
+		 */
+		@Override
+		public void markCompleted(Collection<EventPublication> publications) {
+			markCompletedAndCount(publications);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#markCompletedAndCount(java.util.Collection)
+		 */
+		@Override
+		public long markCompletedAndCount(Collection<EventPublication> publications) {
+
+			long completed = delegate.markCompletedAndCount(publications);
+			completed(completed);
+
+			return completed;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#closeExpiredPublications()
+		 */
+		@Override
+		public long closeExpiredPublications() {
+
+			long closed = delegate.closeExpiredPublications();
+			completed(closed);
+
+			return closed;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#findIncompletePublications()
+		 */
+		@Override
+		public Iterable<EventPublication> findIncompletePublications() {
+			return delegate.findIncompletePublications();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#findIncompletePublications(org.moduliths.events.PublicationTargetIdentifier, int)
+		 */
+		@Override
+		public Iterable<EventPublication> findIncompletePublications(PublicationTargetIdentifier listener, int limit) {
+			return delegate.findIncompletePublications(listener, limit);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventPublicationRegistry#getBacklog()
+		 */
+		@Override
+		public EventPublicationBacklog getBacklog() {
+
+			EventPublicationBacklog backlog = delegate.getBacklog();
+			synchronize(backlog);
+
+			return backlog;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.springframework.lang.Nullable;
+
+/**
+ * A snapshot of the progress of the current or most recent resubmission of incomplete event publications.
+ *
+ * @author Oliver Drotbohm
+ * @see PersistentApplicationEventMulticaster#getResubmissionProgress()
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResubmissionProgress {
+
+	@Nullable PublicationTargetIdentifier listener;
+	long total, resubmitted, failed, skipped;
+	Instant startDate;
+	@Nullable Instant completionDate;
+
+	/**
+	 * Creates a new {@link ResubmissionProgress} for a resubmission of the given number of publications that starts now.
+	 *
+	 * @param listener the listener the resubmission is restricted to, {@literal null} for all listeners.
+	 * @param total the number of publications to resubmit.
+	 * @return will never be {@literal null}.
+	 */
+	static ResubmissionProgress started(@Nullable PublicationTargetIdentifier listener, long total) {
+		return new ResubmissionProgress(listener, total, 0, 0, 0, Instant.now(), null);
+	}
+
+	/**
+	 * Returns the listener the resubmission is restricted to.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<PublicationTargetIdentifier> getListener() {
+		return Optional.ofNullable(listener);
+	}
+
+	/**
+	 * Returns the date the resubmission was completed at.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Instant> getCompletionDate() {
+		return Optional.ofNullable(completionDate);
+	}
+
+	/**
+	 * Returns whether the resubmission is still running.
+	 *
+	 * @return
+	 */
+	public boolean isRunning() {
+		return completionDate == null;
+	}
+
+	/**
+	 * Returns the number of publications that have not been processed yet.
+	 *
+	 * @return
+	 */
+	public long getRemaining() {
+		return total - resubmitted - failed - skipped;
+	}
+
+	ResubmissionProgress resubmitted() {
+		return new ResubmissionProgress(listener, total, resubmitted + 1, failed, skipped, startDate, completionDate);
+	}
+
+	ResubmissionProgress failed() {
+		return new ResubmissionProgress(listener, total, resubmitted, failed + 1, skipped, startDate, completionDate);
+	}
+
+	ResubmissionProgress skipped() {
+		return new ResubmissionProgress(listener, total, resubmitted, failed, skipped + 1, startDate, completionDate);
+	}
+
+	ResubmissionProgress completed() {
+		return new ResubmissionProgress(listener, total, resubmitted, failed, skipped, startDate, Instant.now());
+	}
+}
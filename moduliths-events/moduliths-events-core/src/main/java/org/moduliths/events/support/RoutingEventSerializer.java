@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.moduliths.events.EventSerializer;
+import org.moduliths.events.SerializedWith;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link EventSerializer} delegating to one of a set of identified {@link EventSerializer}s per event type. The
+ * serializer is selected by a mapping configured via {@link #withMapping(Class, String)}, which applies to subtypes,
+ * too, by a {@link SerializedWith} annotation on the event type or falls back to the default serializer. The
+ * identifier of the selected serializer is exposed via {@link #getSerializerId(Class)} so that registries can record it
+ * with the publication and deserialization picks the serializer the event was serialized with, even if the routing
+ * has changed in the meantime.
+ *
+ * @author Oliver Drotbohm
+ */
+public class RoutingEventSerializer implements EventSerializer {
+
+	private final Map<String, EventSerializer> serializers;
+	private final String defaultId;
+	private final Map<Class<?>, String> mappings;
+	private final Map<Class<?>, String> routes = new ConcurrentHashMap<>();
+
+	private RoutingEventSerializer(Map<String, EventSerializer> serializers, String defaultId,
+			Map<Class<?>, String> mappings) {
+
+		Assert.notEmpty(serializers, "Serializers must not be null or empty!");
+		Assert.isTrue(serializers.containsKey(defaultId), () -> "No serializer registered for default id " + defaultId + "!");
+
+		this.serializers = serializers;
+		this.defaultId = defaultId;
+		this.mappings = mappings;
+	}
+
+	/**
+	 * Creates a new {@link RoutingEventSerializer} for the given {@link EventSerializer}s keyed by their identifiers,
+	 * using the one with the given identifier by default.
+	 *
+	 * @param serializers must not be {@literal null} or empty.
+	 * @param defaultId must not be {@literal null} and refer to one of the given serializers.
+	 * @return will never be {@literal null}.
+	 */
+	public static RoutingEventSerializer of(Map<String, EventSerializer> serializers, String defaultId) {
+
+		Assert.notNull(serializers, "Serializers must not be null!");
+		Assert.hasText(defaultId, "Default serializer id must not be null or empty!");
+
+		return new RoutingEventSerializer(Collections.unmodifiableMap(new LinkedHashMap<>(serializers)), defaultId,
+				Collections.emptyMap());
+	}
+
+	/**
+	 * Returns a new {@link RoutingEventSerializer} using the serializer with the given identifier for events of the
+	 * given type and its subtypes.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param serializerId must not be {@literal null} and refer to one of the registered serializers.
+	 * @return will never be {@literal null}.
+	 */
+	public RoutingEventSerializer withMapping(Class<?> type, String serializerId) {
+
+		Assert.notNull(type, "Event type must not be null!");
+		Assert.isTrue(serializers.containsKey(serializerId), () -> "No serializer registered for id " + serializerId + "!");
+
+		Map<Class<?>, String> mappings = new LinkedHashMap<>(this.mappings);
+		mappings.put(type, serializerId);
+
+		return new RoutingEventSerializer(serializers, defaultId, Collections.unmodifiableMap(mappings));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventSerializer#serialize(java.lang.Object)
+	 */
+	@Override
+	public Object serialize(Object event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		return getSerializer(route(event.getClass())).serialize(event);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventSerializer#deserialize(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public Object deserialize(Object serialized, Class<?> type) {
+		return deserialize(serialized, type, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventSerializer#deserialize(java.lang.Object, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public Object deserialize(Object serialized, Class<?> type, @Nullable String serializerId) {
+
+		Assert.notNull(serialized, "Serialized event must not be null!");
+		Assert.notNull(type, "Event type must not be null!");
+
+		return getSerializer(serializerId == null ? route(type) : serializerId).deserialize(serialized, type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventSerializer#getSerializerId(java.lang.Class)
+	 */
+	@Override
+	public Optional<String> getSerializerId(Class<?> type) {
+
+		Assert.notNull(type, "Event type must not be null!");
+
+		return Optional.of(route(type));
+	}
+
+	private String route(Class<?> type) {
+		return routes.computeIfAbsent(type, this::calculateRoute);
+	}
+
+	private String calculateRoute(Class<?> type) {
+
+		String mapped = mappings.get(type);
+
+		if (mapped != null) {
+			return mapped;
+		}
+
+		Optional<String> assignable = mappings.entrySet().stream() //
+				.filter(it -> it.getKey().isAssignableFrom(type)) //
+				.map(Map.Entry::getValue) //
+				.findFirst();
+
+		if (assignable.isPresent()) {
+			return assignable.get();
+		}
+
+		SerializedWith annotation = AnnotatedElementUtils.findMergedAnnotation(type, SerializedWith.class);
+
+		if (annotation == null) {
+			return defaultId;
+		}
+
+		if (!serializers.containsKey(annotation.value())) {
+			throw new IllegalStateException(
+					String.format("No serializer registered for id %s declared on %s!", annotation.value(), type.getName()));
+		}
+
+		return annotation.value();
+	}
+
+	private EventSerializer getSerializer(String serializerId) {
+
+		EventSerializer serializer = serializers.get(serializerId);
+
+		if (serializer == null) {
+			throw new IllegalStateException(String.format("No serializer registered for id %s!", serializerId));
+		}
+
+		return serializer;
+	}
+}
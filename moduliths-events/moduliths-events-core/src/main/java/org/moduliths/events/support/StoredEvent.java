@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import lombok.Value;
+
+import java.util.Base64;
+
+import org.moduliths.events.EventSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The textual form of a serialized event and the identifier of the serializer used, as stored by registries keeping
+ * the serialized event in a text column. Binary serialization formats, i.e. serializers returning a {@code byte[]}, are
+ * Base64-encoded, which is recorded by prefixing the serializer identifier with {@value #BASE64_PREFIX}.
+ *
+ * @author Oliver Drotbohm
+ */
+@Value(staticConstructor = "of")
+public class StoredEvent {
+
+	static final String BASE64_PREFIX = "base64:";
+
+	/**
+	 * The serialized event in textual form.
+	 */
+	String serializedEvent;
+
+	/**
+	 * The identifier of the serializer used, prefixed with {@value #BASE64_PREFIX} for Base64-encoded binary formats.
+	 */
+	@Nullable String serializerId;
+
+	/**
+	 * Creates a new {@link StoredEvent} for the given serializer output, encoding binary formats using Base64.
+	 *
+	 * @param serialized the output of {@link EventSerializer#serialize(Object)}, must not be {@literal null}.
+	 * @param serializerId the identifier of the serializer used, can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given serializer output is neither a {@link String} nor a
+	 *           {@code byte[]}.
+	 */
+	public static StoredEvent encode(Object serialized, @Nullable String serializerId) {
+
+		Assert.notNull(serialized, "Serialized event must not be null!");
+
+		if (serialized instanceof byte[]) {
+			return of(Base64.getEncoder().encodeToString((byte[]) serialized),
+					BASE64_PREFIX + (serializerId == null ? "" : serializerId));
+		}
+
+		Assert.isInstanceOf(String.class, serialized, "EventSerializer must serialize events into Strings or byte arrays!");
+
+		return of((String) serialized, serializerId);
+	}
+
+	/**
+	 * Deserializes the stored event into an instance of the given type using the given {@link EventSerializer}, handing
+	 * it the decoded serializer output and the original serializer identifier.
+	 *
+	 * @param serializer must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public Object deserialize(EventSerializer serializer, Class<?> type) {
+
+		Assert.notNull(serializer, "Serializer must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		if (serializerId == null || !serializerId.startsWith(BASE64_PREFIX)) {
+			return serializer.deserialize(serializedEvent, type, serializerId);
+		}
+
+		String id = serializerId.substring(BASE64_PREFIX.length());
+
+		return serializer.deserialize(Base64.getDecoder().decode(serializedEvent), type, id.isEmpty() ? null : id);
+	}
+}
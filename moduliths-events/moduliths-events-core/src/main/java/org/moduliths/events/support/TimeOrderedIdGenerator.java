@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.IdGenerator;
+
+/**
+ * An {@link IdGenerator} creating time-ordered {@link UUID}s following the layout of version 7 UUIDs: the 48 most
+ * significant bits contain the milliseconds since the epoch, followed by the version, a 12 bit sequence keeping
+ * identifiers created within the same millisecond ordered and 62 random bits. Identifiers created by a single instance
+ * are strictly increasing when compared as unsigned byte sequences, as databases do, so that they can be inserted
+ * into B-tree indexes sequentially and used for keyset pagination in creation order. No coordination between
+ * instances is needed.
+ * <p>
+ * Note that {@link UUID#compareTo(UUID)} compares signed values and thus does not reflect that order.
+ *
+ * @author Oliver Drotbohm
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+	private static final int SEQUENCE_BITS = 12;
+
+	private final AtomicLong state = new AtomicLong();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.util.IdGenerator#generateId()
+	 */
+	@Override
+	public UUID generateId() {
+
+		long now = System.currentTimeMillis() << SEQUENCE_BITS;
+
+		// Sequence overflows borrow from the next millisecond to stay monotonic
+		long current = state.updateAndGet(it -> Math.max(it + 1, now));
+
+		long mostSignificantBits = (current >>> SEQUENCE_BITS) << 16 // timestamp
+				| 0x7L << 12 // version
+				| current & 0xFFFL; // sequence
+
+		long leastSignificantBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL // random
+				| 0x8000000000000000L; // variant
+
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.moduliths.events.EventPublication;
+import org.moduliths.events.TimeToLive;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the time-to-live of event publications per event type, either from configuration or from a
+ * {@link TimeToLive} annotation on the event type. Resolved values are cached per type.
+ *
+ * @author Oliver Drotbohm
+ * @see TimeToLive
+ */
+@RequiredArgsConstructor
+public class TimeToLiveResolver {
+
+	static final String PROPERTY_PREFIX = "moduliths.events.time-to-live.";
+
+	private final @NonNull Function<Class<?>, Optional<Duration>> configured;
+	private final Map<Class<?>, Optional<Duration>> timeToLives = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link TimeToLiveResolver} only considering {@link TimeToLive} annotations.
+	 */
+	public TimeToLiveResolver() {
+		this(__ -> Optional.empty());
+	}
+
+	/**
+	 * Creates a new {@link TimeToLiveResolver} looking up the time-to-live of an event type from a
+	 * {@code moduliths.events.time-to-live.${fully-qualified-type-name}} property in the given {@link PropertyResolver}
+	 * first, falling back to the {@link TimeToLive} annotation.
+	 *
+	 * @param properties must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static TimeToLiveResolver of(PropertyResolver properties) {
+
+		Assert.notNull(properties, "PropertyResolver must not be null!");
+
+		return new TimeToLiveResolver(type -> Optional.ofNullable(properties.getProperty(PROPERTY_PREFIX + type.getName())) //
+				.map(Duration::parse));
+	}
+
+	/**
+	 * Returns the time-to-live of publications of the given event type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Duration> resolve(Class<?> type) {
+
+		Assert.notNull(type, "Event type must not be null!");
+
+		return timeToLives.computeIfAbsent(type, it -> {
+
+			Optional<Duration> result = configured.apply(it);
+
+			if (result.isPresent()) {
+				return result;
+			}
+
+			return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(it, TimeToLive.class)) //
+					.map(TimeToLive::value) //
+					.map(Duration::parse);
+		});
+	}
+
+	/**
+	 * Returns the date the given {@link EventPublication} expires at.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Instant> getExpirationDate(EventPublication publication) {
+
+		Assert.notNull(publication, "EventPublication must not be null!");
+
+		return resolve(publication.getEvent().getClass()) //
+				.map(publication.getPublicationDate()::plus);
+	}
+}
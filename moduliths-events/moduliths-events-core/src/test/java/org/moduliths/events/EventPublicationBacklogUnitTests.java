@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.EventPublicationBacklog.Entry;
+import org.moduliths.events.support.MapEventPublicationRegistry;
+
+/**
+ * Unit tests for {@link EventPublicationBacklog}.
+ *
+ * @author Oliver Drotbohm
+ */
+class EventPublicationBacklogUnitTests {
+
+	PublicationTargetIdentifier first = PublicationTargetIdentifier.of("first");
+	PublicationTargetIdentifier second = PublicationTargetIdentifier.of("second");
+
+	@Test
+	void aggregatesIncompletePublicationsByEventTypeAndListener() {
+
+		MapEventPublicationRegistry registry = new MapEventPublicationRegistry();
+
+		registry.store("foo", Stream.of(first, second));
+		registry.store("bar", Stream.of(first));
+		registry.store(42L, Stream.of(first));
+		registry.markCompleted(42L, first);
+
+		EventPublicationBacklog backlog = registry.getBacklog();
+
+		assertThat(backlog.isEmpty()).isFalse();
+		assertThat(backlog.getTotal()).isEqualTo(3);
+		assertThat(backlog.getOldestPublicationDate()).isPresent();
+		assertThat(backlog.getEntries()).hasSize(2);
+
+		assertThat(backlog.getEntries(first)).hasSize(1).element(0).satisfies(it -> {
+			assertThat(it.getEventType()).isEqualTo(String.class.getName());
+			assertThat(it.getCount()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void ordersEntriesByOldestPublicationDate() {
+
+		Instant now = Instant.now();
+		Entry recent = Entry.of(String.class.getName(), first, 1, now);
+		Entry old = Entry.of(Long.class.getName(), second, 5, now.minusSeconds(60));
+
+		EventPublicationBacklog backlog = EventPublicationBacklog.of(Arrays.asList(recent, old));
+
+		assertThat(backlog).containsExactly(old, recent);
+		assertThat(backlog.getOldestPublicationDate()).hasValue(old.getOldestPublicationDate());
+		assertThat(backlog.getTotal()).isEqualTo(6);
+	}
+
+	@Test
+	void emptyBacklogHasNoOldestPublicationDate() {
+
+		EventPublicationBacklog backlog = EventPublicationBacklog.of(Collections.emptyList());
+
+		assertThat(backlog.isEmpty()).isTrue();
+		assertThat(backlog.getTotal()).isZero();
+		assertThat(backlog.getOldestPublicationDate()).isEmpty();
+	}
+}
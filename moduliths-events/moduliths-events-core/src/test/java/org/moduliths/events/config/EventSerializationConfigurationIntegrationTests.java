@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.EventSerializer;
+import org.moduliths.events.support.RoutingEventSerializer;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Integration tests for {@link EventSerializationConfiguration}.
+ *
+ * @author Oliver Drotbohm
+ */
+class EventSerializationConfigurationIntegrationTests {
+
+	@Test
+	void routesBetweenSerializersIfDefaultIsConfigured() {
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put(EventSerializationConfiguration.DEFAULT_SERIALIZER_PROPERTY, "first");
+		properties.put(EventSerializationConfiguration.MAPPINGS_PROPERTY, Integer.class.getName() + "=second");
+
+		withContext(properties, context -> {
+
+			EventSerializer serializer = context.getBean(EventSerializer.class);
+
+			assertThat(serializer).isInstanceOf(RoutingEventSerializer.class);
+			assertThat(serializer.serialize("event")).isEqualTo("first");
+			assertThat(serializer.serialize(42)).isEqualTo("second");
+			assertThat(serializer.getSerializerId(Integer.class)).hasValue("second");
+		});
+	}
+
+	@Test
+	void doesNotRegisterRoutingSerializerByDefault() {
+
+		withContext(Collections.emptyMap(), context -> {
+
+			assertThat(context.getBeansOfType(RoutingEventSerializer.class)).isEmpty();
+			assertThatExceptionOfType(NoUniqueBeanDefinitionException.class)
+					.isThrownBy(() -> context.getBean(EventSerializer.class));
+		});
+	}
+
+	private static void withContext(Map<String, Object> properties, Consumer<AnnotationConfigApplicationContext> consumer) {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+
+			context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+			context.register(TestConfiguration.class);
+			context.refresh();
+
+			consumer.accept(context);
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(EventSerializationConfiguration.class)
+	static class TestConfiguration {
+
+		@Bean
+		EventSerializer first() {
+			return new FixedEventSerializer("first");
+		}
+
+		@Bean
+		EventSerializer second() {
+			return new FixedEventSerializer("second");
+		}
+	}
+
+	static class FixedEventSerializer implements EventSerializer {
+
+		private final String value;
+
+		FixedEventSerializer(String value) {
+			this.value = value;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventSerializer#serialize(java.lang.Object)
+		 */
+		@Override
+		public Object serialize(Object event) {
+			return value;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.moduliths.events.EventSerializer#deserialize(java.lang.Object, java.lang.Class)
+		 */
+		@Override
+		public Object deserialize(Object serialized, Class<?> type) {
+			return serialized;
+		}
+	}
+}
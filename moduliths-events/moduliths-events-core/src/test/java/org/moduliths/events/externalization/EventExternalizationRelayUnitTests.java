@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.externalization;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.support.MapEventPublicationRegistry;
+
+/**
+ * Unit tests for {@link EventExternalizationRelay}.
+ *
+ * @author Oliver Drotbohm
+ */
+class EventExternalizationRelayUnitTests {
+
+	MapEventPublicationRegistry registry = new MapEventPublicationRegistry();
+	InMemoryEventExternalizationTransport transport = new InMemoryEventExternalizationTransport();
+
+	@Test
+	void externalizesIncompletePublicationsInBatches() {
+
+		EventExternalizationRelay relay = new EventExternalizationRelay(() -> registry, transport, 2, 2);
+
+		IntStream.range(0, 5) //
+				.forEach(it -> registry.store(new SampleEvent(it), Stream.of(EventExternalizationRelay.TARGET)));
+
+		assertThat(relay.externalize()).isEqualTo(4);
+		assertThat(relay.externalize()).isEqualTo(1);
+		assertThat(relay.externalize()).isZero();
+
+		assertThat(transport.getEvents("sample")).hasSize(5);
+		assertThat(registry.findIncompletePublications()).isEmpty();
+	}
+
+	@Test
+	void keepsPublicationsIncompleteIfDeliveryFails() {
+
+		CompletableFuture<Void> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException());
+
+		EventExternalizationRelay relay = new EventExternalizationRelay(() -> registry, __ -> failed);
+
+		registry.store(new SampleEvent(0), Stream.of(EventExternalizationRelay.TARGET));
+
+		assertThat(relay.externalize()).isZero();
+		assertThat(registry.findIncompletePublications()).hasSize(1);
+	}
+
+	@Test
+	void usesTypeNameAsDefaultTarget() {
+
+		EventExternalizationRelay relay = new EventExternalizationRelay(() -> registry, transport);
+
+		registry.store(new DefaultTargetEvent(), Stream.of(EventExternalizationRelay.TARGET));
+		relay.externalize();
+
+		assertThat(transport.getEvents(DefaultTargetEvent.class.getName())).hasSize(1);
+	}
+
+	@Value
+	@Externalized("sample")
+	static class SampleEvent {
+		int number;
+	}
+
+	@Externalized
+	static class DefaultTargetEvent {}
+}
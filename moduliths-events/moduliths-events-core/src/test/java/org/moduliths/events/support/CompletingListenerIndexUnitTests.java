@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link CompletingListenerIndex}.
+ *
+ * @author Oliver Drotbohm
+ */
+class CompletingListenerIndexUnitTests {
+
+	@TempDir Path root;
+
+	@Test
+	void considersAllTypesCandidatesWithoutIndex() throws IOException {
+
+		CompletingListenerIndex index = CompletingListenerIndex.of(classLoaderFor(root));
+
+		assertThat(index.isCandidate(Object.class)).isTrue();
+		assertThat(index.isCandidate(String.class)).isTrue();
+	}
+
+	@Test
+	void considersIndexedTypesAndTheirSubtypesCandidates() throws Exception {
+
+		ClassLoader classLoader = indexedClassLoader();
+		CompletingListenerIndex index = CompletingListenerIndex.of(classLoader);
+
+		assertThat(index.isCandidate(classLoader.loadClass(Listener.class.getName()))).isTrue();
+		assertThat(index.isCandidate(classLoader.loadClass(ListenerSubclass.class.getName()))).isTrue();
+		assertThat(index.isCandidate(classLoader.loadClass(ListenerImplementation.class.getName()))).isTrue();
+		assertThat(index.isCandidate(classLoader.loadClass(NonListener.class.getName()))).isFalse();
+		assertThat(index.isCandidate(String.class)).isFalse();
+	}
+
+	@Test
+	void considersTypesFromCodeSourcesWithoutIndexCandidates() throws Exception {
+
+		CompletingListenerIndex index = CompletingListenerIndex.of(indexedClassLoader());
+
+		// Loaded from the test classes, not covered by the index
+		assertThat(index.isCandidate(NonListener.class)).isTrue();
+	}
+
+	/**
+	 * Returns a {@link ClassLoader} loading copies of the sample types from a folder that contains an index listing
+	 * {@link Listener} and {@link ListenerInterface}.
+	 *
+	 * @return
+	 */
+	private ClassLoader indexedClassLoader() throws IOException {
+
+		Path file = root.resolve(CompletingListenerIndex.INDEX_LOCATION);
+		Files.createDirectories(file.getParent());
+		Files.write(file, Arrays.asList(Listener.class.getName(), ListenerInterface.class.getName()));
+
+		for (Class<?> type : Arrays.asList(Listener.class, ListenerSubclass.class, ListenerInterface.class,
+				ListenerImplementation.class, NonListener.class)) {
+
+			String name = type.getName().replace('.', '/').concat(".class");
+			Path target = root.resolve(name);
+
+			Files.createDirectories(target.getParent());
+
+			try (InputStream stream = type.getClassLoader().getResourceAsStream(name)) {
+				Files.copy(stream, target);
+			}
+		}
+
+		return classLoaderFor(root);
+	}
+
+	private static ClassLoader classLoaderFor(Path root) throws IOException {
+		return new URLClassLoader(new URL[] { root.toUri().toURL() }, null);
+	}
+
+	static class Listener {}
+
+	static class ListenerSubclass extends Listener {}
+
+	interface ListenerInterface {}
+
+	static class ListenerImplementation implements ListenerInterface {}
+
+	static class NonListener {}
+}
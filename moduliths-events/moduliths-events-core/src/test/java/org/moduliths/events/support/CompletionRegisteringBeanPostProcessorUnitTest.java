@@ -19,14 +19,20 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.lang.reflect.Method;
 import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.Test;
+import org.moduliths.events.AsyncTransactionalEventListener;
 import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.PublicationTargetIdentifier;
 import org.springframework.aop.framework.Advised;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
@@ -68,6 +74,56 @@ class CompletionRegisteringBeanPostProcessorUnitTest {
 		assertNonCompletion(SomeEventListener::nonEventListener);
 	}
 
+	@Test
+	void completesPublicationForListenerIdentifierOfInvokedMethod() throws Exception {
+
+		Object processed = processor.postProcessAfterInitialization(bean, "listener");
+		Object event = new Object();
+
+		((SomeEventListener) processed).onAfterCommit(event);
+
+		Method method = SomeEventListener.class.getDeclaredMethod("onAfterCommit", Object.class);
+		String listenerId = new TransactionalApplicationListenerMethodAdapter("listener", SomeEventListener.class, method)
+				.getListenerId();
+
+		verify(registry).markCompleted(event, PublicationTargetIdentifier.of(listenerId));
+	}
+
+	@Test
+	void triggersCompletionForAsyncListenerAfterExecution() {
+
+		AsyncEventListener target = new AsyncEventListener();
+
+		createAsyncListener(target).onAfterCommit(new Object());
+
+		assertThat(target.invoked).isTrue();
+		verify(registry).markCompleted(any(), any());
+	}
+
+	@Test
+	void doesNotTriggerCompletionForFailingAsyncListener() {
+
+		AsyncEventListener listener = createAsyncListener(new AsyncEventListener());
+
+		assertThatNoException().isThrownBy(() -> listener.onFailingAfterCommit(new Object()));
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
+	private AsyncEventListener createAsyncListener(AsyncEventListener target) {
+
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("taskExecutor", new SyncTaskExecutor());
+
+		CompletionRegisteringBeanPostProcessor processor = new CompletionRegisteringBeanPostProcessor(() -> registry);
+		processor.setBeanFactory(beanFactory);
+
+		Object processed = processor.postProcessAfterInitialization(target, "asyncListener");
+
+		assertThat(processed).isInstanceOf(Advised.class);
+
+		return (AsyncEventListener) processed;
+	}
+
 	private void assertCompletion(BiConsumer<SomeEventListener, Object> consumer) {
 		assertCompletion(consumer, true);
 	}
@@ -101,5 +157,20 @@ class CompletionRegisteringBeanPostProcessorUnitTest {
 		void nonEventListener(Object object) {}
 	}
 
+	static class AsyncEventListener {
+
+		boolean invoked;
+
+		@AsyncTransactionalEventListener
+		void onAfterCommit(Object event) {
+			this.invoked = true;
+		}
+
+		@AsyncTransactionalEventListener
+		void onFailingAfterCommit(Object event) {
+			throw new IllegalStateException();
+		}
+	}
+
 	static class NoEventListener {}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.DeduplicationKey;
+
+/**
+ * Unit tests for {@link DeduplicationKeyResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+class DeduplicationKeyResolverUnitTests {
+
+	DeduplicationKeyResolver resolver = new DeduplicationKeyResolver();
+
+	@Test
+	void resolvesKeyFromAnnotatedMethod() {
+		assertThat(resolver.resolve(new MethodKeyed("id"), () -> "{}")).hasValue("method-id");
+	}
+
+	@Test
+	void resolvesKeyFromAnnotatedField() {
+		assertThat(resolver.resolve(new FieldKeyed("id"), () -> "{}")).hasValue("id");
+	}
+
+	@Test
+	void usesContentHashForAnnotatedType() {
+
+		assertThat(resolver.resolve(new ContentKeyed(), () -> "{ \"value\" : 1 }"))
+				.hasValueSatisfying(it -> assertThat(it).hasSize(32))
+				.isEqualTo(resolver.resolve(new ContentKeyed(), () -> "{ \"value\" : 1 }"))
+				.isNotEqualTo(resolver.resolve(new ContentKeyed(), () -> "{ \"value\" : 2 }"));
+	}
+
+	@Test
+	void usesContentHashOfBinarySerializedEvent() {
+
+		assertThat(resolver.resolve(new ContentKeyed(), () -> new byte[] { 1, 2 }))
+				.isEqualTo(resolver.resolve(new ContentKeyed(), () -> new byte[] { 1, 2 }))
+				.isNotEqualTo(resolver.resolve(new ContentKeyed(), () -> new byte[] { 1, 3 }));
+	}
+
+	@Test
+	void doesNotResolveKeyForUnannotatedEvent() {
+		assertThat(resolver.resolve(new Object(), () -> "{}")).isEmpty();
+	}
+
+	@Test
+	void doesNotSerializeEventForNonContentBasedKeys() {
+
+		assertThat(resolver.resolve(new MethodKeyed("id"), () -> {
+			throw new IllegalStateException("Must not serialize event!");
+		})).isPresent();
+	}
+
+	@Value
+	static class MethodKeyed {
+
+		String id;
+
+		@DeduplicationKey
+		String getKey() {
+			return "method-" + id;
+		}
+	}
+
+	@Value
+	static class FieldKeyed {
+		@DeduplicationKey String id;
+	}
+
+	@DeduplicationKey
+	static class ContentKeyed {}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.CompletableEventPublication;
+import org.moduliths.events.EventPublication;
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.NonCritical;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.SelfCompletingListener;
+import org.moduliths.events.support.PublicationBackpressure.Policy;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.transaction.event.TransactionalApplicationListenerAdapter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * Unit tests for {@link PersistentApplicationEventMulticaster}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PersistentApplicationEventMulticasterUnitTests {
+
+	static final PublicationTargetIdentifier LISTENER = PublicationTargetIdentifier.of("listener");
+
+	EventPublicationRegistry registry = mock(EventPublicationRegistry.class);
+
+	@BeforeEach
+	void setUp() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void marksPublicationCompletedAfterListenerProcessedEvent() {
+
+		publishAndCommit(multicaster(CompletionMode.MULTICASTER), it -> {});
+
+		verify(registry).markCompleted("payload", LISTENER);
+	}
+
+	@Test
+	void doesNotMarkPublicationCompletedForFailingListener() {
+
+		AtomicBoolean invoked = new AtomicBoolean();
+
+		publishAndCommit(multicaster(CompletionMode.MULTICASTER), it -> {
+			invoked.set(true);
+			throw new IllegalStateException();
+		});
+
+		assertThat(invoked).isTrue();
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
+	@Test
+	void doesNotMarkPublicationCompletedForSelfCompletingListener() {
+
+		SelfCompletingAdapter listener = new SelfCompletingAdapter(it -> {});
+
+		publishAndCommit(multicaster(CompletionMode.MULTICASTER), listener);
+
+		assertThat(listener.invoked).isTrue();
+		verify(registry).store(eq("payload"), any());
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
+	@Test
+	void doesNotMarkResubmittedPublicationCompletedForSelfCompletingListener() {
+
+		SelfCompletingAdapter listener = new SelfCompletingAdapter(it -> {});
+		PersistentApplicationEventMulticaster multicaster = multicaster(CompletionMode.MULTICASTER);
+		multicaster.addApplicationListener(listener);
+
+		when(registry.findIncompletePublications(LISTENER, 1))
+				.thenReturn(Collections.<EventPublication> singletonList(CompletableEventPublication.of("payload", LISTENER)));
+
+		multicaster.resubmitIncompletePublications(LISTENER, 1);
+
+		assertThat(listener.invoked).isTrue();
+		verify(registry, never()).markCompleted(any(EventPublication.class));
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
+	@Test
+	void doesNotMarkPublicationCompletedInProxyMode() {
+
+		AtomicBoolean invoked = new AtomicBoolean();
+
+		publishAndCommit(multicaster(CompletionMode.PROXY), it -> invoked.set(true));
+
+		assertThat(invoked).isTrue();
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
+	@Test
+	void deliversShedEventToListenersWithoutStoringPublication() {
+
+		MapEventPublicationRegistry registry = new MapEventPublicationRegistry();
+		PublicationBackpressure backpressure = PublicationBackpressure.of(1, Policy.SHED, Duration.ZERO);
+		backpressure.track(registry).store("outstanding", Stream.of(LISTENER));
+
+		PersistentApplicationEventMulticaster multicaster = new PersistentApplicationEventMulticaster(() -> registry,
+				CompletionMode.MULTICASTER, __ -> false);
+		multicaster.setBackpressure(backpressure);
+
+		AtomicReference<Object> received = new AtomicReference<>();
+		multicaster.addApplicationListener(ApplicationListener.forPayload(received::set));
+
+		TransactionalApplicationListenerAdapter<PayloadApplicationEvent<Object>> txListener = //
+				(TransactionalApplicationListenerAdapter<PayloadApplicationEvent<Object>>) TransactionalApplicationListener
+						.forPayload(it -> {});
+		txListener.setListenerId("txListener");
+		multicaster.addApplicationListener(txListener);
+
+		NonCriticalEvent event = new NonCriticalEvent();
+		multicaster.multicastEvent(new PayloadApplicationEvent<>(this, event));
+
+		assertThat(received.get()).isSameAs(event);
+		assertThat(registry.findIncompletePublications()) //
+				.extracting(EventPublication::getEvent) //
+				.containsExactly("outstanding");
+	}
+
+	private PersistentApplicationEventMulticaster multicaster(CompletionMode mode) {
+		return new PersistentApplicationEventMulticaster(() -> registry, mode, __ -> false);
+	}
+
+	private void publishAndCommit(PersistentApplicationEventMulticaster multicaster, Consumer<String> consumer) {
+
+		TransactionalApplicationListenerAdapter<PayloadApplicationEvent<String>> listener = //
+				(TransactionalApplicationListenerAdapter<PayloadApplicationEvent<String>>) TransactionalApplicationListener
+						.forPayload(consumer);
+		listener.setListenerId(LISTENER.toString());
+
+		publishAndCommit(multicaster, listener);
+	}
+
+	private void publishAndCommit(PersistentApplicationEventMulticaster multicaster,
+			TransactionalApplicationListener<?> listener) {
+
+		multicaster.addApplicationListener(listener);
+		multicaster.multicastEvent(new PayloadApplicationEvent<>(this, "payload"));
+
+		TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+				TransactionSynchronization.STATUS_COMMITTED);
+	}
+
+	@NonCritical
+	static class NonCriticalEvent {}
+
+	static class SelfCompletingAdapter extends TransactionalApplicationListenerAdapter<ApplicationEvent>
+			implements SelfCompletingListener {
+
+		boolean invoked;
+
+		SelfCompletingAdapter(ApplicationListener<ApplicationEvent> delegate) {
+
+			super(delegate);
+			setListenerId(LISTENER.toString());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.event.TransactionalApplicationListenerAdapter#processEvent(org.springframework.context.ApplicationEvent)
+		 */
+		@Override
+		public void processEvent(ApplicationEvent event) {
+
+			invoked = true;
+			super.processEvent(event);
+		}
+	}
+}
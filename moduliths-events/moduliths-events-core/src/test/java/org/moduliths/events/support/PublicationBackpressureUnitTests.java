@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.EventPublicationRejectedException;
+import org.moduliths.events.NonCritical;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.support.PublicationBackpressure.Policy;
+
+/**
+ * Unit tests for {@link PublicationBackpressure}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PublicationBackpressureUnitTests {
+
+	static final PublicationTargetIdentifier LISTENER = PublicationTargetIdentifier.of("listener");
+
+	EventPublicationRegistry delegate = new MapEventPublicationRegistry();
+
+	@Test
+	void admitsPublicationsUpToHighWaterMark() {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(2, Policy.REJECT, Duration.ZERO);
+		EventPublicationRegistry registry = backpressure.track(delegate);
+
+		assertThat(backpressure.admit("first", 1)).isTrue();
+		registry.store("first", Stream.of(LISTENER));
+
+		assertThat(backpressure.admit("second", 1)).isTrue();
+		registry.store("second", Stream.of(LISTENER));
+
+		assertThat(backpressure.getOutstandingPublications()).isEqualTo(2);
+		assertThatExceptionOfType(EventPublicationRejectedException.class) //
+				.isThrownBy(() -> backpressure.admit("third", 1));
+	}
+
+	@Test
+	void admitsPublicationsAgainOnceCompleted() {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(1, Policy.REJECT, Duration.ZERO);
+		EventPublicationRegistry registry = backpressure.track(delegate);
+
+		registry.store("first", Stream.of(LISTENER));
+		registry.markCompleted("first", LISTENER);
+
+		assertThat(backpressure.getOutstandingPublications()).isZero();
+		assertThat(backpressure.admit("second", 1)).isTrue();
+	}
+
+	@Test
+	void shedsNonCriticalEventsOnly() {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(1, Policy.SHED, Duration.ZERO);
+		backpressure.track(delegate).store("first", Stream.of(LISTENER));
+
+		assertThat(backpressure.admit(new NonCriticalEvent(), 1)).isFalse();
+		assertThat(backpressure.admit("critical", 1)).isTrue();
+	}
+
+	@Test
+	void rejectsPublicationIfBacklogDoesNotDrainInTime() {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(1, Policy.BLOCK, Duration.ofMillis(10));
+		backpressure.track(delegate).store("first", Stream.of(LISTENER));
+
+		assertThatExceptionOfType(EventPublicationRejectedException.class) //
+				.isThrownBy(() -> backpressure.admit("second", 1));
+	}
+
+	@Test
+	void releasesBlockedPublisherOnceBacklogDrains() throws Exception {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(1, Policy.BLOCK, Duration.ofSeconds(5));
+		EventPublicationRegistry registry = backpressure.track(delegate);
+		registry.store("first", Stream.of(LISTENER));
+
+		Thread completion = new Thread(() -> registry.markCompleted("first", LISTENER));
+		completion.start();
+
+		assertThat(backpressure.admit("second", 1)).isTrue();
+
+		completion.join();
+	}
+
+	@Test
+	void synchronizesOutstandingPublicationsWithBacklog() {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(10, Policy.REJECT, Duration.ZERO);
+		delegate.store("first", Stream.of(LISTENER));
+
+		assertThat(backpressure.getOutstandingPublications()).isZero();
+
+		backpressure.track(delegate).getBacklog();
+
+		assertThat(backpressure.getOutstandingPublications()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotCountDuplicatePublications() {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(10, Policy.REJECT, Duration.ZERO);
+		EventPublicationRegistry registry = backpressure.track(delegate);
+
+		assertThat(registry.storeAndCount("first", Stream.of(LISTENER))).isEqualTo(1);
+		assertThat(registry.storeAndCount("first", Stream.of(LISTENER))).isZero();
+
+		assertThat(backpressure.getOutstandingPublications()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotCountCompletionOfUnknownOrCompletedPublications() {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(10, Policy.REJECT, Duration.ZERO);
+		EventPublicationRegistry registry = backpressure.track(delegate);
+
+		registry.store("first", Stream.of(LISTENER));
+		registry.store("second", Stream.of(LISTENER));
+
+		assertThat(registry.markCompletedIfIncomplete("unknown", LISTENER)).isFalse();
+		assertThat(registry.markCompletedIfIncomplete("first", LISTENER)).isTrue();
+		assertThat(registry.markCompletedIfIncomplete("first", LISTENER)).isFalse();
+
+		assertThat(backpressure.getOutstandingPublications()).isEqualTo(1);
+	}
+
+	@Test
+	void resynchronizesWithBacklogOnceHighWaterMarkIsHit() {
+
+		PublicationBackpressure backpressure = PublicationBackpressure.of(1, Policy.REJECT, Duration.ZERO);
+		backpressure.track(delegate).store("first", Stream.of(LISTENER));
+
+		// Completed without the tracking registry being involved
+		delegate.markCompleted("first", LISTENER);
+
+		assertThat(backpressure.getOutstandingPublications()).isEqualTo(1);
+		assertThat(backpressure.admit("second", 1)).isTrue();
+		assertThat(backpressure.getOutstandingPublications()).isZero();
+	}
+
+	@Test
+	void doesNotTrackUnboundedRegistry() {
+		assertThat(PublicationBackpressure.unbounded().track(delegate)).isSameAs(delegate);
+	}
+
+	@NonCritical
+	static class NonCriticalEvent {}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.EventSerializer;
+import org.moduliths.events.SerializedWith;
+
+/**
+ * Unit tests for {@link RoutingEventSerializer}.
+ *
+ * @author Oliver Drotbohm
+ */
+class RoutingEventSerializerUnitTests {
+
+	RoutingEventSerializer serializer;
+
+	@BeforeEach
+	void setUp() {
+
+		Map<String, EventSerializer> serializers = new HashMap<>();
+		serializers.put("json", new PrefixingEventSerializer("json:"));
+		serializers.put("binary", new PrefixingEventSerializer("binary:"));
+
+		this.serializer = RoutingEventSerializer.of(serializers, "json");
+	}
+
+	@Test
+	void usesDefaultSerializerForUnmappedType() {
+
+		assertThat(serializer.serialize("event")).isEqualTo("json:event");
+		assertThat(serializer.getSerializerId(String.class)).hasValue("json");
+	}
+
+	@Test
+	void usesSerializerDeclaredByAnnotation() {
+
+		assertThat(serializer.serialize(new BinaryEvent())).isEqualTo("binary:binary-event");
+		assertThat(serializer.getSerializerId(BinaryEvent.class)).hasValue("binary");
+	}
+
+	@Test
+	void prefersConfiguredMappingIncludingSubtypes() {
+
+		RoutingEventSerializer mapped = serializer.withMapping(CharSequence.class, "binary");
+
+		assertThat(mapped.serialize("event")).isEqualTo("binary:event");
+		assertThat(mapped.getSerializerId(String.class)).hasValue("binary");
+	}
+
+	@Test
+	void deserializesWithRecordedSerializer() {
+
+		assertThat(serializer.deserialize("binary:event", String.class, "binary")).isEqualTo("event");
+		assertThat(serializer.deserialize("json:event", String.class, null)).isEqualTo("event");
+	}
+
+	@Test
+	void rejectsMappingToUnknownSerializer() {
+		assertThatIllegalArgumentException().isThrownBy(() -> serializer.withMapping(String.class, "unknown"));
+	}
+
+	@Test
+	void rejectsAnnotationReferringToUnknownSerializer() {
+		assertThatIllegalStateException().isThrownBy(() -> serializer.serialize(new UnknownEvent()));
+	}
+
+	@SerializedWith("binary")
+	static class BinaryEvent {
+
+		@Override
+		public String toString() {
+			return "binary-event";
+		}
+	}
+
+	@SerializedWith("unknown")
+	static class UnknownEvent {}
+
+	@RequiredArgsConstructor
+	static class PrefixingEventSerializer implements EventSerializer {
+
+		private final String prefix;
+
+		@Override
+		public Object serialize(Object event) {
+			return prefix + event;
+		}
+
+		@Override
+		public Object deserialize(Object serialized, Class<?> type) {
+
+			assertThat(serialized.toString()).startsWith(prefix);
+
+			return serialized.toString().substring(prefix.length());
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.EventSerializer;
+
+/**
+ * Unit tests for {@link StoredEvent}.
+ *
+ * @author Oliver Drotbohm
+ */
+class StoredEventUnitTests {
+
+	EventSerializer serializer = mock(EventSerializer.class);
+
+	@Test
+	void storesTextualFormatAsIs() {
+
+		StoredEvent stored = StoredEvent.encode("{}", "jackson");
+
+		assertThat(stored.getSerializedEvent()).isEqualTo("{}");
+		assertThat(stored.getSerializerId()).isEqualTo("jackson");
+
+		stored.deserialize(serializer, Object.class);
+
+		verify(serializer).deserialize("{}", Object.class, "jackson");
+	}
+
+	@Test
+	void encodesBinaryFormatUsingBase64() {
+
+		byte[] serialized = { 1, 2, 3 };
+		StoredEvent stored = StoredEvent.encode(serialized, "binary");
+
+		assertThat(stored.getSerializedEvent()).isEqualTo("AQID");
+		assertThat(stored.getSerializerId()).isEqualTo("base64:binary");
+
+		StoredEvent.of(stored.getSerializedEvent(), stored.getSerializerId()).deserialize(serializer, Object.class);
+
+		verify(serializer).deserialize(aryEq(serialized), eq(Object.class), eq("binary"));
+	}
+
+	@Test
+	void recordsBase64EncodingWithoutSerializerId() {
+
+		StoredEvent stored = StoredEvent.encode(new byte[] { 1 }, null);
+
+		assertThat(stored.getSerializerId()).isEqualTo("base64:");
+
+		stored.deserialize(serializer, Object.class);
+
+		verify(serializer).deserialize(aryEq(new byte[] { 1 }), eq(Object.class), isNull());
+	}
+
+	@Test
+	void rejectsUnsupportedSerializationFormat() {
+		assertThatIllegalArgumentException().isThrownBy(() -> StoredEvent.encode(42, null));
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeOrderedIdGenerator}.
+ *
+ * @author Oliver Drotbohm
+ */
+class TimeOrderedIdGeneratorUnitTests {
+
+	TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+
+	@Test
+	void createsVersion7Uuids() {
+
+		UUID id = generator.generateId();
+
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+	}
+
+	@Test
+	void embedsCreationTimestamp() {
+
+		long before = System.currentTimeMillis();
+		UUID id = generator.generateId();
+
+		assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1);
+	}
+
+	@Test
+	void createsStrictlyIncreasingIdentifiers() {
+
+		String previous = generator.generateId().toString();
+
+		for (int i = 0; i < 10_000; i++) {
+
+			String current = generator.generateId().toString();
+
+			// Lexicographical order of the hex representation equals the unsigned byte order
+			assertThat(current).isGreaterThan(previous);
+
+			previous = current;
+		}
+	}
+}
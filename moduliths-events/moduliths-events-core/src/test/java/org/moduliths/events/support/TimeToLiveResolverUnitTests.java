@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.CompletableEventPublication;
+import org.moduliths.events.EventPublication;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.TimeToLive;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Unit tests for {@link TimeToLiveResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+class TimeToLiveResolverUnitTests {
+
+	Map<String, Object> properties = new HashMap<>();
+	TimeToLiveResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+		this.resolver = TimeToLiveResolver.of(environment);
+	}
+
+	@Test
+	void resolvesTimeToLiveFromAnnotation() {
+		assertThat(resolver.resolve(ShortLived.class)).hasValue(Duration.ofMinutes(5));
+	}
+
+	@Test
+	void prefersConfiguredTimeToLive() {
+
+		properties.put(TimeToLiveResolver.PROPERTY_PREFIX + ShortLived.class.getName(), "PT1M");
+
+		assertThat(resolver.resolve(ShortLived.class)).hasValue(Duration.ofMinutes(1));
+	}
+
+	@Test
+	void resolvesConfiguredTimeToLiveForUnannotatedType() {
+
+		properties.put(TimeToLiveResolver.PROPERTY_PREFIX + String.class.getName(), "PT10S");
+
+		assertThat(resolver.resolve(String.class)).hasValue(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void doesNotResolveTimeToLiveForUnannotatedType() {
+		assertThat(resolver.resolve(Object.class)).isEmpty();
+	}
+
+	@Test
+	void calculatesExpirationDateFromPublicationDate() {
+
+		EventPublication publication = CompletableEventPublication.of(new ShortLived(),
+				PublicationTargetIdentifier.of("listener"));
+
+		assertThat(resolver.getExpirationDate(publication))
+				.hasValue(publication.getPublicationDate().plus(Duration.ofMinutes(5)));
+	}
+
+	@TimeToLive("PT5M")
+	static class ShortLived {}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.indexer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor to record all types that declare methods completing event publications, i.e.
+ * {@code @TransactionalEventListener}s for the {@code AFTER_COMMIT} phase, either used directly or as meta-annotation.
+ * The fully-qualified binary names of those types are written to {@value #INDEX_LOCATION}, one per line, so that
+ * {@code CompletionRegisteringBeanPostProcessor} can skip inspecting all other beans reflectively.
+ *
+ * @author Oliver Drotbohm
+ */
+public class CompletingListenerIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * The location of the index file. Has to be kept in sync with {@code CompletingListenerIndex}.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/moduliths-events.listeners";
+
+	static final String TRANSACTIONAL_EVENT_LISTENER = "org.springframework.transaction.event.TransactionalEventListener";
+	static final String AFTER_COMMIT = "AFTER_COMMIT";
+
+	private final Set<String> types = new TreeSet<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedAnnotationTypes()
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+
+		// Meta-annotated listener annotations cannot be named upfront
+		return Collections.singleton("*");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		if (roundEnv.processingOver()) {
+			writeIndex();
+		} else {
+			ElementFilter.typesIn(roundEnv.getRootElements()).forEach(this::inspect);
+		}
+
+		return false;
+	}
+
+	private void inspect(TypeElement type) {
+
+		if (ElementFilter.methodsIn(type.getEnclosedElements()).stream().anyMatch(this::isCompletingMethod)) {
+			types.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+		}
+
+		ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::inspect);
+	}
+
+	private boolean isCompletingMethod(ExecutableElement method) {
+
+		for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+
+			if (isAfterCommitListener(annotation, annotationType)) {
+				return true;
+			}
+
+			// Composed annotations, e.g. @AsyncTransactionalEventListener
+			for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+
+				if (isAfterCommitListener(meta, (TypeElement) meta.getAnnotationType().asElement())) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isAfterCommitListener(AnnotationMirror annotation, TypeElement annotationType) {
+
+		if (!annotationType.getQualifiedName().contentEquals(TRANSACTIONAL_EVENT_LISTENER)) {
+			return false;
+		}
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+				.entrySet()) {
+
+			if (entry.getKey().getSimpleName().contentEquals("phase")) {
+
+				Element phase = (Element) entry.getValue().getValue();
+
+				return phase.getKind() == ElementKind.ENUM_CONSTANT && phase.getSimpleName().contentEquals(AFTER_COMMIT);
+			}
+		}
+
+		// AFTER_COMMIT is the default phase
+		return true;
+	}
+
+	private void writeIndex() {
+
+		if (types.isEmpty()) {
+			return;
+		}
+
+		// Retain entries of an incremental compilation's previous run
+		types.addAll(readExistingIndex());
+
+		try {
+
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+
+			try (Writer writer = file.openWriter()) {
+				for (String type : types) {
+					writer.write(type);
+					writer.write('\n');
+				}
+			}
+
+		} catch (IOException o_O) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write listener index: " + o_O.getMessage());
+		}
+	}
+
+	private Set<String> readExistingIndex() {
+
+		Set<String> result = new TreeSet<>();
+
+		try {
+
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+
+				reader.lines().map(String::trim).filter(it -> !it.isEmpty()).forEach(result::add);
+			}
+
+		} catch (IOException | IllegalArgumentException o_O) {
+			// No previous index available
+		}
+
+		return result;
+	}
+}
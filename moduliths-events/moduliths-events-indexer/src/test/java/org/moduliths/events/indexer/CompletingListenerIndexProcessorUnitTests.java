@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.indexer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link CompletingListenerIndexProcessor}.
+ *
+ * @author Oliver Drotbohm
+ */
+class CompletingListenerIndexProcessorUnitTests {
+
+	@TempDir Path output;
+
+	@Test
+	void indexesTypesDeclaringAfterCommitListeners() throws IOException {
+
+		compile(source("example.Listeners", "package example;", //
+				"import org.springframework.transaction.event.*;", //
+				"public class Listeners {", //
+				"  @TransactionalEventListener void onDefault(Object event) {}", //
+				"  public static class Nested {", //
+				"    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT) void on(Object event) {}", //
+				"  }", //
+				"}"),
+				source("example.Composed", "package example;", //
+						"import java.lang.annotation.*;", //
+						"import org.springframework.transaction.event.*;", //
+						"@Retention(RetentionPolicy.RUNTIME) @TransactionalEventListener", //
+						"public @interface Composed {}"),
+				source("example.ComposedListener", "package example;", //
+						"public class ComposedListener {", //
+						"  @Composed void on(Object event) {}", //
+						"}"),
+				source("example.RollbackListener", "package example;", //
+						"import org.springframework.transaction.event.*;", //
+						"public class RollbackListener {", //
+						"  @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK) void on(Object event) {}", //
+						"}"));
+
+		assertThat(Files.readAllLines(output.resolve(CompletingListenerIndexProcessor.INDEX_LOCATION)))
+				.containsExactly("example.ComposedListener", "example.Listeners", "example.Listeners$Nested");
+	}
+
+	@Test
+	void doesNotWriteIndexWithoutListeners() {
+
+		compile(source("example.Plain", "package example;", "public class Plain {}"));
+
+		assertThat(output.resolve(CompletingListenerIndexProcessor.INDEX_LOCATION)).doesNotExist();
+	}
+
+	private void compile(JavaFileObject... sources) {
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		List<String> options = Arrays.asList("-proc:only", "-d", output.toString(), //
+				"-classpath", System.getProperty("java.class.path"));
+
+		CompilationTask task = compiler.getTask(null, null, null, options, null, Arrays.asList(sources));
+		task.setProcessors(Collections.singletonList(new CompletingListenerIndexProcessor()));
+
+		assertThat(task.call()).isTrue();
+	}
+
+	private static JavaFileObject source(String name, String... lines) {
+
+		URI uri = URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+
+		return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+
+			/*
+			 * (non-Javadoc)
+			 * @see javax.tools.SimpleJavaFileObject#getCharContent(boolean)
+			 */
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return String.join("\n", lines);
+			}
+		};
+	}
+}
@@ -18,11 +18,15 @@ package org.moduliths.events.jpa;
 import lombok.RequiredArgsConstructor;
 
 import jakarta.persistence.EntityManager;
+import javax.sql.DataSource;
 
 import org.moduliths.events.EventSerializer;
 import org.moduliths.events.config.EventPublicationConfigurationExtension;
+import org.moduliths.events.support.DeduplicationKeyResolver;
+import org.moduliths.events.support.TimeToLiveResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
  * @author Oliver Gierke
@@ -33,12 +37,13 @@ class JpaEventPublicationConfiguration implements EventPublicationConfigurationE
 
 	@Bean
 	public JpaEventPublicationRegistry jpaEventPublicationRegistry(JpaEventPublicationRepository repository,
-			EventSerializer serializer) {
-		return new JpaEventPublicationRegistry(repository, serializer);
+			EventSerializer serializer, Environment environment) {
+		return new JpaEventPublicationRegistry(repository, serializer, new DeduplicationKeyResolver(),
+				new JpaEventTypes(repository), TimeToLiveResolver.of(environment));
 	}
 
 	@Bean
-	public JpaEventPublicationRepository jpaEventPublicationRepository(EntityManager em) {
-		return new JpaEventPublicationRepository(em);
+	public JpaEventPublicationRepository jpaEventPublicationRepository(EntityManager em, DataSource dataSource) {
+		return new JpaEventPublicationRepository(em, dataSource);
 	}
 }
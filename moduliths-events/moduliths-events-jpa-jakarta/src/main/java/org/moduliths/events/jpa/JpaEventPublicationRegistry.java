@@ -21,16 +21,28 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.moduliths.events.CompletableEventPublication;
 import org.moduliths.events.EventPublication;
+import org.moduliths.events.EventPublicationBacklog;
 import org.moduliths.events.EventPublicationRegistry;
 import org.moduliths.events.EventSerializer;
 import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.support.DeduplicationKeyResolver;
+import org.moduliths.events.support.StoredEvent;
+import org.moduliths.events.support.TimeToLiveResolver;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -44,8 +56,13 @@ import org.springframework.util.Assert;
 @RequiredArgsConstructor
 class JpaEventPublicationRegistry implements EventPublicationRegistry, DisposableBean {
 
+	private static final int PAGE_SIZE = 500;
+
 	private final @NonNull JpaEventPublicationRepository events;
 	private final @NonNull EventSerializer serializer;
+	private final @NonNull DeduplicationKeyResolver deduplicationKeys;
+	private final @NonNull JpaEventTypes eventTypes;
+	private final @NonNull TimeToLiveResolver timeToLives;
 
 	/*
 	 * (non-Javadoc)
@@ -53,10 +70,37 @@ class JpaEventPublicationRegistry implements EventPublicationRegistry, Disposabl
 	 */
 	@Override
 	public void store(Object event, Stream<PublicationTargetIdentifier> listeners) {
+		storeAndCount(event, listeners);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#storeAndCount(java.lang.Object, java.util.stream.Stream)
+	 */
+	@Override
+	public long storeAndCount(Object event, Stream<PublicationTargetIdentifier> listeners) {
+
+		Object serializedEvent = serializer.serialize(event);
+		StoredEvent storedEvent = StoredEvent.encode(serializedEvent,
+				serializer.getSerializerId(event.getClass()).orElse(null));
+
+		Optional<String> deduplicationKey = deduplicationKeys.resolve(event, () -> serializedEvent);
+		Iterator<PublicationTargetIdentifier> iterator = listeners.iterator();
+		long stored = 0;
+
+		while (iterator.hasNext()) {
+
+			EventPublication publication = CompletableEventPublication.of(event, iterator.next());
+
+			if (deduplicationKey.isPresent() && !claim(publication, deduplicationKey.get())) {
+				continue;
+			}
+
+			events.create(map(publication, storedEvent, deduplicationKey));
+			stored++;
+		}
 
-		listeners.map(it -> CompletableEventPublication.of(event, it)) //
-				.map(this::map) //
-				.forEach(it -> events.create(it));
+		return stored;
 	}
 
 	/*
@@ -66,11 +110,48 @@ class JpaEventPublicationRegistry implements EventPublicationRegistry, Disposabl
 	@Override
 	public Iterable<EventPublication> findIncompletePublications() {
 
-		List<EventPublication> result = events.findByCompletionDateIsNull().stream() //
-				.map(it -> JpaEventPublicationAdapter.of(it, serializer)) //
+		Instant reference = Instant.now();
+
+		return () -> new IncompletePublications(reference);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#findIncompletePublications(org.moduliths.events.PublicationTargetIdentifier, int)
+	 */
+	@Override
+	public Iterable<EventPublication> findIncompletePublications(PublicationTargetIdentifier listener, int limit) {
+
+		Assert.notNull(listener, "Listener must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return events.findByListenerIdAndCompletionDateIsNull(listener.toString(), Instant.now(), limit).stream() //
+				.map(it -> JpaEventPublicationAdapter.of(it, serializer, eventTypes)) //
 				.collect(Collectors.toList());
+	}
 
-		return result;
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#closeExpiredPublications()
+	 */
+	@Override
+	@Transactional
+	public long closeExpiredPublications() {
+
+		int closed = events.markExpiredCompleted(Instant.now());
+
+		LOG.debug("Closed {} expired publications.", closed);
+
+		return closed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#getBacklog()
+	 */
+	@Override
+	public EventPublicationBacklog getBacklog() {
+		return EventPublicationBacklog.of(events.findBacklog());
 	}
 
 	/*
@@ -80,13 +161,75 @@ class JpaEventPublicationRegistry implements EventPublicationRegistry, Disposabl
 	@Override
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void markCompleted(Object event, PublicationTargetIdentifier listener) {
+		markCompletedIfIncomplete(event, listener);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#markCompletedIfIncomplete(java.lang.Object, org.moduliths.events.PublicationTargetIdentifier)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public boolean markCompletedIfIncomplete(Object event, PublicationTargetIdentifier listener) {
 
 		Assert.notNull(event, "Domain event must not be null!");
 		Assert.notNull(listener, "Listener identifier must not be null!");
 
-		events.findBySerializedEventAndListenerId(serializer.serialize(event), listener.toString()) //
-				.map(JpaEventPublicationRegistry::LOGCompleted) //
-				.ifPresent(it -> events.update(it.markCompleted()));
+		Object serializedEvent = serializer.serialize(event);
+		String listenerId = listener.toString();
+
+		return deduplicationKeys.resolve(event, () -> serializedEvent) //
+				.map(it -> events.findByDeduplicationKeyAndListenerId(it, listenerId)) //
+				.orElseGet(() -> events.findBySerializedEventAndListenerId(
+						StoredEvent.encode(serializedEvent, null).getSerializedEvent(), listenerId)) //
+				.filter(it -> it.getCompletionDate() == null) //
+				.map(this::logCompleted) //
+				.map(events::markCompleted) //
+				.isPresent();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#markCompleted(java.util.Collection)
+	 */
+	@Override
+	@Transactional
+	public void markCompleted(Collection<EventPublication> publications) {
+		markCompletedAndCount(publications);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.EventPublicationRegistry#markCompletedAndCount(java.util.Collection)
+	 */
+	@Override
+	@Transactional
+	public long markCompletedAndCount(Collection<EventPublication> publications) {
+
+		Assert.notNull(publications, "Publications must not be null!");
+
+		List<UUID> ids = new ArrayList<>(publications.size());
+		long completed = 0;
+
+		for (EventPublication publication : publications) {
+
+			if (publication instanceof JpaEventPublicationAdapter) {
+				ids.add(((JpaEventPublicationAdapter) publication).getId());
+			} else if (markCompletedIfIncomplete(publication.getEvent(), publication.getTargetIdentifier())) {
+				completed++;
+			}
+		}
+
+		if (!ids.isEmpty()) {
+
+			int updated = events.markCompleted(ids, Instant.now());
+
+			LOG.debug("Marked {} publications completed.", updated);
+
+			completed += updated;
+		}
+
+		return completed;
 	}
 
 	/*
@@ -96,54 +239,136 @@ class JpaEventPublicationRegistry implements EventPublicationRegistry, Disposabl
 	@Override
 	public void destroy() throws Exception {
 
-		List<JpaEventPublication> publications = events.findByCompletionDateIsNull();
+		EventPublicationBacklog backlog = getBacklog();
 
-		if (publications.isEmpty()) {
+		if (backlog.isEmpty()) {
 
 			LOG.info("No publications outstanding!");
 			return;
 		}
 
-		LOG.info("Shutting down with the following publications left unfinished:");
+		LOG.info("Shutting down with {} publications left unfinished, the oldest published at {}:", //
+				backlog.getTotal(), backlog.getOldestPublicationDate().orElse(null));
+
+		List<EventPublicationBacklog.Entry> entries = backlog.getEntries();
 
-		for (int i = 0; i < publications.size(); i++) {
+		for (int i = 0; i < entries.size(); i++) {
 
-			String prefix = (i + 1) == publications.size() ? "└─" : "├─";
-			JpaEventPublication it = publications.get(i);
+			String prefix = (i + 1) == entries.size() ? "└─" : "├─";
+			EventPublicationBacklog.Entry it = entries.get(i);
 
-			LOG.info("{} {} - {} - {}", prefix, it.getId(), it.getEventType().getName(), it.getListenerId());
+			LOG.info("{} {} - {} - {} publication(s) since {}", prefix, it.getEventType(), it.getListener(), it.getCount(),
+					it.getOldestPublicationDate());
 		}
 	}
 
-	private JpaEventPublication map(EventPublication publication) {
+	/**
+	 * Claims the given deduplication key for the listener targeted by the given {@link EventPublication}.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @param deduplicationKey must not be {@literal null}.
+	 * @return whether the key was claimed, i.e. the publication is no duplicate of an incomplete one.
+	 */
+	private boolean claim(EventPublication publication, String deduplicationKey) {
+
+		String listenerId = publication.getTargetIdentifier().toString();
+		boolean claimed = events.claimDeduplicationKey(deduplicationKey, listenerId);
+
+		if (!claimed) {
+			LOG.debug("Skipping duplicate publication of {} with deduplication key {} for {}.", //
+					publication.getEvent().getClass(), deduplicationKey, listenerId);
+		}
+
+		return claimed;
+	}
+
+	private JpaEventPublication map(EventPublication publication, StoredEvent storedEvent,
+			Optional<String> deduplicationKey) {
 
 		JpaEventPublication result = JpaEventPublication.builder() //
-				.eventType(publication.getEvent().getClass()) //
+				.eventTypeId(eventTypes.getIdentifier(publication.getEvent().getClass())) //
+				.serializerId(storedEvent.getSerializerId()) //
 				.publicationDate(publication.getPublicationDate()) //
 				.listenerId(publication.getTargetIdentifier().toString()) //
-				.serializedEvent(serializer.serialize(publication.getEvent()).toString()) //
+				.serializedEvent(storedEvent.getSerializedEvent()) //
+				.deduplicationKey(deduplicationKey.orElse(null)) //
+				.expirationDate(timeToLives.getExpirationDate(publication).orElse(null)) //
 				.build();
 
 		LOG.debug("Registering publication of {} with id {} for {}.", //
-				result.getEventType(), result.getId(), result.getListenerId());
+				publication.getEvent().getClass(), result.getId(), result.getListenerId());
 
 		return result;
 	}
 
-	private static JpaEventPublication LOGCompleted(JpaEventPublication publication) {
+	private JpaEventPublication logCompleted(JpaEventPublication publication) {
 
-		LOG.debug("Marking publication of event {} with id {} to listener {} completed.", //
-				publication.getEventType(), publication.getId(), publication.getListenerId());
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Marking publication of event {} with id {} to listener {} completed.", //
+					eventTypes.getTypeName(publication.getEventTypeId()), publication.getId(), publication.getListenerId());
+		}
 
 		return publication;
 	}
 
+	/**
+	 * {@link Iterator} over all incomplete publications, looking them up in pages of {@value JpaEventPublicationRegistry#PAGE_SIZE} in insertion
+	 * order using keyset pagination.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	private class IncompletePublications implements Iterator<EventPublication> {
+
+		private final Instant reference;
+
+		private Iterator<JpaEventPublication> page = Collections.emptyIterator();
+		private @Nullable UUID lastId;
+		private boolean exhausted;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			if (!page.hasNext() && !exhausted) {
+
+				List<JpaEventPublication> publications = events.findIncompleteAfter(lastId, reference, PAGE_SIZE);
+
+				this.exhausted = publications.size() < PAGE_SIZE;
+				this.page = publications.iterator();
+			}
+
+			return page.hasNext();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public EventPublication next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			JpaEventPublication publication = page.next();
+			this.lastId = publication.getId();
+
+			return JpaEventPublicationAdapter.of(publication, serializer, eventTypes);
+		}
+	}
+
 	@EqualsAndHashCode
 	@RequiredArgsConstructor(staticName = "of")
 	static class JpaEventPublicationAdapter implements EventPublication {
 
 		private final JpaEventPublication publication;
 		private final EventSerializer serializer;
+		private final JpaEventTypes eventTypes;
 
 		/*
 		 * (non-Javadoc)
@@ -151,7 +376,12 @@ class JpaEventPublicationRegistry implements EventPublicationRegistry, Disposabl
 		 */
 		@Override
 		public Object getEvent() {
-			return serializer.deserialize(publication.getSerializedEvent(), publication.getEventType());
+			return StoredEvent.of(publication.getSerializedEvent(), publication.getSerializerId()) //
+					.deserialize(serializer, eventTypes.getType(publication.getEventTypeId()));
+		}
+
+		UUID getId() {
+			return publication.getId();
 		}
 
 		/*
@@ -17,22 +17,57 @@ package org.moduliths.events.jpa;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
-import lombok.RequiredArgsConstructor;
 
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
+import javax.sql.DataSource;
+
+import org.moduliths.events.EventPublicationBacklog;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * Repository to store {@link JpaEventPublication}s.
+ * Repository to store {@link JpaEventPublication}s and the {@link JpaEventType}s they refer to.
  *
  * @author Oliver Drotbohm
  */
-@RequiredArgsConstructor
 public class JpaEventPublicationRepository {
 
+	private static final String SQL_CLAIM_DEDUPLICATION_KEY = String.format("insert into %s (%s, %s) values (?, ?)",
+			JpaEventDeduplication.TABLE, JpaEventDeduplication.DEDUPLICATION_KEY, JpaEventDeduplication.LISTENER_ID);
+
 	private final EntityManager entityManager;
+	private final DataSource dataSource;
+	private final JdbcOperations jdbc;
+
+	/**
+	 * Creates a new {@link JpaEventPublicationRepository} for the given {@link EntityManager} and the {@link DataSource}
+	 * it uses.
+	 *
+	 * @param entityManager must not be {@literal null}.
+	 * @param dataSource must not be {@literal null}.
+	 */
+	public JpaEventPublicationRepository(EntityManager entityManager, DataSource dataSource) {
+
+		this.entityManager = entityManager;
+		this.dataSource = dataSource;
+		this.jdbc = new JdbcTemplate(dataSource);
+	}
 
 	@Transactional
 	JpaEventPublication create(JpaEventPublication publication) {
@@ -51,14 +86,173 @@ public class JpaEventPublicationRepository {
 	}
 
 	/**
-	 * Returns all {@link JpaEventPublication} that have not been completed yet.
+	 * Marks the given {@link JpaEventPublication} as completed and releases the deduplication key it claimed, if any.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @return
+	 */
+	@Transactional
+	JpaEventPublication markCompleted(JpaEventPublication publication) {
+
+		if (publication.getDeduplicationKey() != null) {
+
+			String release = "delete from JpaEventDeduplication d where d.deduplicationKey = ?1 and d.listenerId = ?2";
+
+			entityManager.createQuery(release)
+					.setParameter(1, publication.getDeduplicationKey())
+					.setParameter(2, publication.getListenerId())
+					.executeUpdate();
+		}
+
+		return update(publication.markCompleted());
+	}
+
+	/**
+	 * Marks the {@link JpaEventPublication}s with the given identifiers as completed using a single bulk update.
+	 * Publications already completed are left untouched. The deduplication keys claimed by the publications are
+	 * released.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 * @return the number of publications updated.
+	 */
+	@Transactional
+	int markCompleted(Collection<UUID> ids, Instant completionDate) {
+
+		String release = "delete from JpaEventDeduplication d where exists (select p.id from JpaEventPublication p"
+				+ " where p.deduplicationKey = d.deduplicationKey and p.listenerId = d.listenerId"
+				+ " and p.id in ?1 and p.completionDate is null)";
+
+		entityManager.createQuery(release)
+				.setParameter(1, ids)
+				.executeUpdate();
+
+		String query = "update JpaEventPublication p set p.completionDate = ?1"
+				+ " where p.id in ?2 and p.completionDate is null";
+
+		return entityManager.createQuery(query)
+				.setParameter(1, completionDate)
+				.setParameter(2, ids)
+				.executeUpdate();
+	}
+
+	/**
+	 * Marks all {@link JpaEventPublication}s that have not been completed yet but expired before the given date as
+	 * completed using a single bulk update. The deduplication keys claimed by the publications are released.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @return the number of publications updated.
+	 */
+	@Transactional
+	int markExpiredCompleted(Instant reference) {
+
+		String release = "delete from JpaEventDeduplication d where exists (select p.id from JpaEventPublication p"
+				+ " where p.deduplicationKey = d.deduplicationKey and p.listenerId = d.listenerId"
+				+ " and p.completionDate is null and p.expirationDate <= ?1)";
+
+		entityManager.createQuery(release)
+				.setParameter(1, reference)
+				.executeUpdate();
+
+		String query = "update JpaEventPublication p set p.completionDate = ?1"
+				+ " where p.completionDate is null and p.expirationDate <= ?1";
+
+		return entityManager.createQuery(query)
+				.setParameter(1, reference)
+				.executeUpdate();
+	}
+
+	/**
+	 * Returns all {@link JpaEventPublication} that have not been completed yet and have not expired before the given
+	 * date.
+	 *
+	 * @param reference must not be {@literal null}.
+	 */
+	@Transactional(readOnly = true)
+	List<JpaEventPublication> findByCompletionDateIsNull(Instant reference) {
+
+		String query = "select p from JpaEventPublication p"
+				+ " where p.completionDate is null and (p.expirationDate is null or p.expirationDate > ?1)";
+
+		return entityManager.createQuery(query, JpaEventPublication.class)
+				.setParameter(1, reference)
+				.getResultList();
+	}
+
+	/**
+	 * Returns the next page of {@link JpaEventPublication}s that have not been completed yet and have not expired before
+	 * the given date, ordered by their time-ordered identifiers, i.e. in insertion order. Pages are looked up by the
+	 * identifier of the last publication of the previous page so that the primary key index can be used to skip the
+	 * publications already seen.
+	 *
+	 * @param lastId the identifier of the last publication of the previous page, {@literal null} for the first page.
+	 * @param reference must not be {@literal null}.
+	 * @param limit the maximum number of publications to return.
+	 * @return will never be {@literal null}.
+	 */
+	@Transactional(readOnly = true)
+	List<JpaEventPublication> findIncompleteAfter(@Nullable UUID lastId, Instant reference, int limit) {
+
+		String query = "select p from JpaEventPublication p"
+				+ " where p.completionDate is null and (p.expirationDate is null or p.expirationDate > ?1)"
+				+ (lastId == null ? "" : " and p.id > ?2")
+				+ " order by p.id";
+
+		TypedQuery<JpaEventPublication> typedQuery = entityManager.createQuery(query, JpaEventPublication.class)
+				.setParameter(1, reference)
+				.setMaxResults(limit);
+
+		if (lastId != null) {
+			typedQuery.setParameter(2, lastId);
+		}
+
+		return typedQuery.getResultList();
+	}
+
+	/**
+	 * Returns the oldest {@link JpaEventPublication}s to the given listener that have not been completed yet and have not
+	 * expired before the given date.
+	 *
+	 * @param listenerId must not be {@literal null}.
+	 * @param reference must not be {@literal null}.
+	 * @param limit the maximum number of publications to return.
+	 * @return will never be {@literal null}.
+	 */
+	@Transactional(readOnly = true)
+	List<JpaEventPublication> findByListenerIdAndCompletionDateIsNull(String listenerId, Instant reference, int limit) {
+
+		String query = "select p from JpaEventPublication p"
+				+ " where p.listenerId = ?1 and p.completionDate is null"
+				+ " and (p.expirationDate is null or p.expirationDate > ?2)"
+				+ " order by p.publicationDate";
+
+		return entityManager.createQuery(query, JpaEventPublication.class)
+				.setParameter(1, listenerId)
+				.setParameter(2, reference)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
+	/**
+	 * Returns the number of incomplete {@link JpaEventPublication}s and the date of the oldest of them per event type and
+	 * listener. Calculated by an aggregate query so that no publication has to be loaded.
+	 *
+	 * @return will never be {@literal null}.
 	 */
 	@Transactional(readOnly = true)
-	List<JpaEventPublication> findByCompletionDateIsNull() {
+	List<EventPublicationBacklog.Entry> findBacklog() {
 
-		String query = "select p from JpaEventPublication p where p.completionDate is null";
+		String query = "select t.name, p.listenerId, count(p), min(p.publicationDate)"
+				+ " from JpaEventPublication p, JpaEventType t"
+				+ " where p.eventTypeId = t.id and p.completionDate is null"
+				+ " group by t.name, p.listenerId";
 
-		return entityManager.createQuery(query, JpaEventPublication.class).getResultList();
+		return entityManager.createQuery(query, Object[].class)
+				.getResultList()
+				.stream()
+				.map(it -> EventPublicationBacklog.Entry.of((String) it[0], PublicationTargetIdentifier.of((String) it[1]),
+						((Number) it[2]).longValue(), (Instant) it[3]))
+				.collect(Collectors.toList());
 	}
 
 	/**
@@ -83,4 +277,136 @@ public class JpaEventPublicationRepository {
 			return Optional.empty();
 		}
 	}
+
+	/**
+	 * Claims the given deduplication key for the given listener by inserting a {@link JpaEventDeduplication}, whose
+	 * primary key rejects a second claim. The insert is issued through JDBC and guarded by a savepoint if a transaction
+	 * is running, as a constraint violation reported by the {@link EntityManager} would mark that transaction as
+	 * rollback-only.
+	 *
+	 * @param deduplicationKey must not be {@literal null}.
+	 * @param listenerId must not be {@literal null}.
+	 * @return whether the key was claimed, {@literal false} if it's claimed by an incomplete publication to the same
+	 *         listener already.
+	 */
+	@Transactional
+	boolean claimDeduplicationKey(String deduplicationKey, String listenerId) {
+
+		ConnectionHolder holder = (ConnectionHolder) TransactionSynchronizationManager.getResource(dataSource);
+
+		try {
+
+			Savepoint savepoint = holder == null ? null : holder.createSavepoint();
+
+			try {
+
+				jdbc.update(SQL_CLAIM_DEDUPLICATION_KEY, deduplicationKey, listenerId);
+
+			} catch (DataIntegrityViolationException o_O) {
+
+				if (savepoint != null) {
+					holder.getConnection().rollback(savepoint);
+				}
+
+				return false;
+			}
+
+			if (savepoint == null) {
+				return true;
+			}
+
+			try {
+				holder.getConnection().releaseSavepoint(savepoint);
+			} catch (SQLException o_O) {
+				// Not supported by all databases, released on commit in any case
+			}
+
+			return true;
+
+		} catch (SQLException o_O) {
+			throw new TransactionSystemException("Could not claim deduplication key within JDBC savepoint!", o_O);
+		}
+	}
+
+	/**
+	 * Return the {@link JpaEventPublication} for the given deduplication key and listener identifier. The lookup is
+	 * backed by an index on both columns.
+	 *
+	 * @param deduplicationKey must not be {@literal null}.
+	 * @param listenerId must not be {@literal null}.
+	 * @return
+	 */
+	@Transactional(readOnly = true)
+	Optional<JpaEventPublication> findByDeduplicationKeyAndListenerId(String deduplicationKey, String listenerId) {
+
+		String query = "select p from JpaEventPublication p where p.deduplicationKey = ?1 and p.listenerId = ?2";
+
+		return entityManager.createQuery(query, JpaEventPublication.class)
+				.setParameter(1, deduplicationKey)
+				.setParameter(2, listenerId)
+				.getResultList()
+				.stream()
+				.findFirst();
+	}
+
+	/**
+	 * Returns the {@link JpaEventType} with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return
+	 */
+	@Transactional(readOnly = true)
+	Optional<JpaEventType> findEventTypeById(Integer id) {
+		return Optional.ofNullable(entityManager.find(JpaEventType.class, id));
+	}
+
+	/**
+	 * Returns the {@link JpaEventType} registered for the given fully-qualified type name.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return
+	 */
+	@Transactional(readOnly = true)
+	Optional<JpaEventType> findEventTypeByName(String name) {
+
+		String query = "select t from JpaEventType t where t.name = ?1";
+
+		return entityManager.createQuery(query, JpaEventType.class)
+				.setParameter(1, name)
+				.getResultList()
+				.stream()
+				.findFirst();
+	}
+
+	/**
+	 * Returns the {@link JpaEventType} registered for the given fully-qualified type name in a separate transaction, so
+	 * that types registered by concurrently running transactions are visible even if the currently running one reads
+	 * from a snapshot.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public Optional<JpaEventType> findCommittedEventTypeByName(String name) {
+		return findEventTypeByName(name);
+	}
+
+	/**
+	 * Registers a new {@link JpaEventType} for the given fully-qualified type name in a separate transaction, so that
+	 * the entry is visible to other instances right away and a failing registration does not affect the currently
+	 * running one.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return the identifier of the newly registered type.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public Integer createEventType(String name) {
+
+		JpaEventType type = JpaEventType.of(name);
+
+		entityManager.persist(type);
+		entityManager.flush();
+
+		return type.getId();
+	}
 }
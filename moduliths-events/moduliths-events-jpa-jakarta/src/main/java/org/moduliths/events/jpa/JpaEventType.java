@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An entry of the event type lookup table. {@link JpaEventPublication}s only refer to the compact identifier of the
+ * type, so that the fully-qualified class name is stored once per event type rather than once per publication.
+ *
+ * @author Oliver Drotbohm
+ */
+@Data
+@Entity
+@NoArgsConstructor(force = true)
+@RequiredArgsConstructor(staticName = "of")
+class JpaEventType {
+
+	private @Id @GeneratedValue(strategy = GenerationType.IDENTITY) Integer id;
+	private final @Column(unique = true, nullable = false) String name;
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.jpa;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * In-memory cache of the event type lookup table in both directions. Resolves the compact identifiers stored in
+ * {@link JpaEventPublication}s into event types and registers new types with the database on first use. Class
+ * loading thus only happens once per event type and not for every publication read. Database lookups happen outside
+ * of the caches' atomic operations so that concurrent access to other entries isn't blocked by them.
+ *
+ * @author Oliver Drotbohm
+ */
+@RequiredArgsConstructor
+class JpaEventTypes {
+
+	private final @NonNull JpaEventPublicationRepository repository;
+
+	private final Map<Class<?>, Integer> identifiers = new ConcurrentHashMap<>();
+	private final Map<Integer, Class<?>> types = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the identifier of the given event type, registering the type with the lookup table if necessary.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Integer getIdentifier(Class<?> type) {
+
+		Assert.notNull(type, "Event type must not be null!");
+
+		Integer identifier = identifiers.get(type);
+
+		if (identifier != null) {
+			return identifier;
+		}
+
+		identifier = lookupOrRegister(type.getName());
+		types.putIfAbsent(identifier, type);
+
+		Integer existing = identifiers.putIfAbsent(type, identifier);
+
+		return existing != null ? existing : identifier;
+	}
+
+	/**
+	 * Returns the event type registered for the given identifier.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException in case the identifier is unknown or the type cannot be loaded.
+	 */
+	Class<?> getType(Integer identifier) {
+
+		Assert.notNull(identifier, "Event type identifier must not be null!");
+
+		Class<?> type = types.get(identifier);
+
+		if (type != null) {
+			return type;
+		}
+
+		type = loadType(getTypeName(identifier));
+		identifiers.putIfAbsent(type, identifier);
+
+		Class<?> existing = types.putIfAbsent(identifier, type);
+
+		return existing != null ? existing : type;
+	}
+
+	/**
+	 * Returns the name of the event type registered for the given identifier without loading the type itself.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException in case the identifier is unknown.
+	 */
+	String getTypeName(Integer identifier) {
+
+		Assert.notNull(identifier, "Event type identifier must not be null!");
+
+		Class<?> type = types.get(identifier);
+
+		return type != null //
+				? type.getName() //
+				: repository.findEventTypeById(identifier) //
+						.map(JpaEventType::getName) //
+						.orElseThrow(() -> new IllegalStateException("No event type registered for id " + identifier + "!"));
+	}
+
+	private Integer lookupOrRegister(String name) {
+
+		return repository.findEventTypeByName(name) //
+				.map(JpaEventType::getId) //
+				.orElseGet(() -> {
+
+					try {
+						return repository.createEventType(name);
+					} catch (RuntimeException o_O) {
+
+						// Registered concurrently by another instance
+						return repository.findCommittedEventTypeByName(name) //
+								.map(JpaEventType::getId) //
+								.orElseThrow(() -> o_O);
+					}
+				});
+	}
+
+	private static Class<?> loadType(String name) {
+
+		try {
+			return ClassUtils.forName(name, null);
+		} catch (ClassNotFoundException | LinkageError o_O) {
+			throw new IllegalStateException("Could not load event type " + name + "!", o_O);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+-- Moves the fully-qualified event type names stored with each publication into the event type lookup table.
+-- Assumes Spring Boot's default naming strategy, adapt table and column names if a different one is used.
+
+CREATE TABLE jpa_event_type (
+	id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	name VARCHAR(255) NOT NULL UNIQUE
+);
+
+INSERT INTO jpa_event_type (name)
+	SELECT DISTINCT event_type FROM jpa_event_publication;
+
+ALTER TABLE jpa_event_publication ADD COLUMN event_type_id INTEGER;
+
+UPDATE jpa_event_publication
+	SET event_type_id = (SELECT t.id FROM jpa_event_type t WHERE t.name = jpa_event_publication.event_type);
+
+ALTER TABLE jpa_event_publication DROP COLUMN event_type;
@@ -23,6 +23,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 
+import javax.sql.DataSource;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.moduliths.events.EventSerializer;
@@ -64,6 +66,11 @@ public class JpaEventPublicationConfigurationIntegrationTests {
 
 			return em;
 		}
+
+		@Bean
+		DataSource dataSource() {
+			return mock(DataSource.class);
+		}
 	}
 
 	@Test
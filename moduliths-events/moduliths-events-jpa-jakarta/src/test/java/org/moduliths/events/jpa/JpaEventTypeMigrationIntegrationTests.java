@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Integration tests for the script migrating existing publications to the event type lookup table.
+ *
+ * @author Oliver Drotbohm
+ */
+class JpaEventTypeMigrationIntegrationTests {
+
+	static final String MIGRATION = "org/moduliths/events/jpa/migration/event-type-lookup.sql";
+
+	EmbeddedDatabase database = new EmbeddedDatabaseBuilder() //
+			.setType(EmbeddedDatabaseType.HSQL) //
+			.generateUniqueName(true) //
+			.build();
+
+	JdbcTemplate jdbc = new JdbcTemplate(database);
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void movesEventTypesOfExistingPublicationsIntoLookupTable() {
+
+		jdbc.execute("CREATE TABLE jpa_event_publication (id BINARY(16) NOT NULL PRIMARY KEY, completion_date TIMESTAMP, "
+				+ "event_type VARCHAR(255), listener_id VARCHAR(255), publication_date TIMESTAMP, "
+				+ "serialized_event VARCHAR(255))");
+
+		insertPublication(String.class);
+		insertPublication(String.class);
+		insertPublication(Integer.class);
+
+		new ResourceDatabasePopulator(new ClassPathResource(MIGRATION)).execute(database);
+
+		assertThat(jdbc.queryForList("SELECT name FROM jpa_event_type", String.class)) //
+				.containsExactlyInAnyOrder(String.class.getName(), Integer.class.getName());
+
+		assertThat(jdbc.queryForList("SELECT t.name FROM jpa_event_publication p "
+				+ "LEFT JOIN jpa_event_type t ON t.id = p.event_type_id", String.class)) //
+						.containsExactlyInAnyOrder(String.class.getName(), String.class.getName(), Integer.class.getName());
+
+		assertThatExceptionOfType(BadSqlGrammarException.class) //
+				.isThrownBy(() -> jdbc.queryForList("SELECT event_type FROM jpa_event_publication"));
+	}
+
+	private void insertPublication(Class<?> eventType) {
+
+		UUID id = UUID.randomUUID();
+		byte[] bytes = ByteBuffer.allocate(16) //
+				.putLong(id.getMostSignificantBits()) //
+				.putLong(id.getLeastSignificantBits()) //
+				.array();
+
+		jdbc.update("INSERT INTO jpa_event_publication (id, event_type, listener_id, publication_date, serialized_event) "
+				+ "VALUES (?, ?, 'listener', CURRENT_TIMESTAMP, '{}')", bytes, eventType.getName());
+	}
+}
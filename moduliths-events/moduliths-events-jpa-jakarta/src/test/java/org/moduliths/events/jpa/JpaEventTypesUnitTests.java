@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.PersistenceException;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JpaEventTypes}.
+ *
+ * @author Oliver Drotbohm
+ */
+class JpaEventTypesUnitTests {
+
+	JpaEventPublicationRepository repository = mock(JpaEventPublicationRepository.class);
+	JpaEventTypes types = new JpaEventTypes(repository);
+
+	@Test
+	void registersUnknownTypeOnce() {
+
+		doReturn(Optional.empty()).when(repository).findEventTypeByName(String.class.getName());
+		doReturn(42).when(repository).createEventType(String.class.getName());
+
+		assertThat(types.getIdentifier(String.class)).isEqualTo(42);
+		assertThat(types.getIdentifier(String.class)).isEqualTo(42);
+		assertThat(types.getType(42)).isEqualTo(String.class);
+
+		verify(repository).createEventType(String.class.getName());
+	}
+
+	@Test
+	void readsBackTypeRegisteredConcurrently() {
+
+		JpaEventType type = JpaEventType.of(String.class.getName());
+		type.setId(42);
+
+		doReturn(Optional.empty()).when(repository).findEventTypeByName(String.class.getName());
+		doThrow(PersistenceException.class).when(repository).createEventType(String.class.getName());
+		doReturn(Optional.of(type)).when(repository).findCommittedEventTypeByName(String.class.getName());
+
+		assertThat(types.getIdentifier(String.class)).isEqualTo(42);
+	}
+
+	@Test
+	void resolvesTypeForRegisteredIdentifier() {
+
+		doReturn(Optional.of(JpaEventType.of(String.class.getName()))).when(repository).findEventTypeById(42);
+
+		assertThat(types.getType(42)).isEqualTo(String.class);
+		assertThat(types.getType(42)).isEqualTo(String.class);
+		assertThat(types.getIdentifier(String.class)).isEqualTo(42);
+
+		verify(repository).findEventTypeById(42);
+		verify(repository, never()).createEventType(any());
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.jpa;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+
+/**
+ * A deduplication key claimed by an incomplete {@link JpaEventPublication} to a particular listener. The primary key
+ * spanning both columns rejects a second claim, so that duplicates are rejected at insert time. Table and column names
+ * are declared explicitly as claims are inserted using plain JDBC.
+ *
+ * @author Oliver Drotbohm
+ * @see JpaEventPublicationRepository#claimDeduplicationKey(String, String)
+ */
+@Data
+@Entity
+@IdClass(JpaEventDeduplication.Key.class)
+@Table(name = JpaEventDeduplication.TABLE)
+@NoArgsConstructor
+class JpaEventDeduplication {
+
+	static final String TABLE = "jpa_event_deduplication";
+	static final String DEDUPLICATION_KEY = "deduplication_key";
+	static final String LISTENER_ID = "listener_id";
+
+	private @Id @Column(name = DEDUPLICATION_KEY) String deduplicationKey;
+	private @Id @Column(name = LISTENER_ID) String listenerId;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private String deduplicationKey;
+		private String listenerId;
+	}
+}
@@ -27,29 +27,63 @@ import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import org.moduliths.events.support.TimeOrderedIdGenerator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.IdGenerator;
 
 /**
+ * A publication of an event to a particular listener. The type of the event is referred to by the identifier of its
+ * {@link JpaEventType}. Publications of event types with a time-to-live carry the date they expire at, the identifier of the
+ * {@link org.moduliths.events.EventSerializer} used is recorded if the serializer exposes one. Identifiers are
+ * time-ordered so that new publications are appended to the primary key index and can be paged through in insertion
+ * order.
+ *
  * @author Oliver Gierke
  */
 @Data
 @Entity
+@Table(indexes = @Index(columnList = "deduplicationKey, listenerId"))
 @NoArgsConstructor(force = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 class JpaEventPublication {
 
+	private static final IdGenerator IDS = new TimeOrderedIdGenerator();
+
 	private final @Id @Column(length = 16) UUID id;
 	private final Instant publicationDate;
 	private final String listenerId;
 	private final String serializedEvent;
-	private final Class<?> eventType;
+	private final Integer eventTypeId;
+	private final String deduplicationKey;
+	private final Instant expirationDate;
+	private final String serializerId;
 
 	private Instant completionDate;
 
+	static JpaEventPublication of(Instant publicationDate, String listenerId, Object serializedEvent,
+			Integer eventTypeId) {
+		return of(publicationDate, listenerId, serializedEvent, eventTypeId, null);
+	}
+
+	static JpaEventPublication of(Instant publicationDate, String listenerId, Object serializedEvent,
+			Integer eventTypeId, @Nullable String deduplicationKey) {
+		return of(publicationDate, listenerId, serializedEvent, eventTypeId, deduplicationKey, null);
+	}
+
+	static JpaEventPublication of(Instant publicationDate, String listenerId, Object serializedEvent,
+			Integer eventTypeId, @Nullable String deduplicationKey, @Nullable Instant expirationDate) {
+		return of(publicationDate, listenerId, serializedEvent, eventTypeId, deduplicationKey, expirationDate, null);
+	}
+
 	@Builder
 	static JpaEventPublication of(Instant publicationDate, String listenerId, Object serializedEvent,
-			Class<?> eventType) {
-		return new JpaEventPublication(UUID.randomUUID(), publicationDate, listenerId, serializedEvent.toString(),
-				eventType);
+			Integer eventTypeId, @Nullable String deduplicationKey, @Nullable Instant expirationDate,
+			@Nullable String serializerId) {
+		return new JpaEventPublication(IDS.generateId(), publicationDate, listenerId, serializedEvent.toString(),
+				eventTypeId, deduplicationKey, expirationDate, serializerId);
 	}
 
 	JpaEventPublication markCompleted() {
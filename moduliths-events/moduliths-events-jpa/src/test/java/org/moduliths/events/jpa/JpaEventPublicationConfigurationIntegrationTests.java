@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -65,6 +66,11 @@ public class JpaEventPublicationConfigurationIntegrationTests {
 
 			return em;
 		}
+
+		@Bean
+		DataSource dataSource() {
+			return mock(DataSource.class);
+		}
 	}
 
 	@Test
@@ -21,6 +21,8 @@ import static org.mockito.Mockito.*;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -28,7 +30,9 @@ import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.moduliths.events.EventPublicationBacklog;
 import org.moduliths.events.EventSerializer;
+import org.moduliths.events.PublicationTargetIdentifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -103,17 +107,128 @@ class JpaEventPublicationRepositoryIntegrationTests {
 	void persistsJpaEventPublication() {
 
 		String listenerId = "listener";
-		JpaEventPublication publication = JpaEventPublication.of(Instant.now(), listenerId, "", Object.class);
+		Integer eventTypeId = repository.createEventType(Object.class.getName());
+		JpaEventPublication publication = JpaEventPublication.of(Instant.now(), listenerId, "", eventTypeId);
 
 		// Store publication
 		repository.create(publication);
 
-		assertThat(repository.findByCompletionDateIsNull()).containsExactly(publication);
+		assertThat(repository.findByCompletionDateIsNull(Instant.now())).containsExactly(publication);
 		assertThat(repository.findBySerializedEventAndListenerId("", listenerId)).isPresent();
 
 		// Complete publication
 		repository.update(publication.markCompleted());
 
-		assertThat(repository.findByCompletionDateIsNull()).isEmpty();
+		assertThat(repository.findByCompletionDateIsNull(Instant.now())).isEmpty();
+	}
+
+	@Test
+	void looksUpPublicationByDeduplicationKey() {
+
+		Integer eventTypeId = repository.createEventType(Object.class.getName());
+		JpaEventPublication publication = JpaEventPublication.of(Instant.now(), "listener", "", eventTypeId, "key");
+
+		repository.create(publication);
+
+		assertThat(repository.findByDeduplicationKeyAndListenerId("key", "listener")).hasValue(publication);
+		assertThat(repository.findByDeduplicationKeyAndListenerId("key", "other")).isEmpty();
+		assertThat(repository.findByDeduplicationKeyAndListenerId("other", "listener")).isEmpty();
+	}
+
+	@Test
+	void claimsDeduplicationKeyUntilPublicationIsCompleted() {
+
+		Integer eventTypeId = repository.createEventType(Object.class.getName());
+		JpaEventPublication publication = JpaEventPublication.of(Instant.now(), "listener", "", eventTypeId, "key");
+
+		assertThat(repository.claimDeduplicationKey("key", "listener")).isTrue();
+		repository.create(publication);
+
+		assertThat(repository.claimDeduplicationKey("key", "listener")).isFalse();
+		assertThat(repository.claimDeduplicationKey("key", "other")).isTrue();
+
+		repository.markCompleted(publication);
+
+		assertThat(repository.claimDeduplicationKey("key", "listener")).isTrue();
+	}
+
+	@Test
+	void releasesDeduplicationKeysOnBulkCompletion() {
+
+		Integer eventTypeId = repository.createEventType(Object.class.getName());
+		JpaEventPublication publication = JpaEventPublication.of(Instant.now(), "listener", "", eventTypeId, "key");
+
+		repository.claimDeduplicationKey("key", "listener");
+		repository.create(publication);
+
+		assertThat(repository.markCompleted(Collections.singleton(publication.getId()), Instant.now())).isEqualTo(1);
+		assertThat(repository.claimDeduplicationKey("key", "listener")).isTrue();
+	}
+
+	@Test
+	void closesExpiredPublications() {
+
+		Integer eventTypeId = repository.createEventType(Object.class.getName());
+		Instant now = Instant.now();
+
+		JpaEventPublication expired = JpaEventPublication.of(now.minusSeconds(60), "listener", "1", eventTypeId, null,
+				now.minusSeconds(30));
+		JpaEventPublication pending = JpaEventPublication.of(now, "listener", "2", eventTypeId, null,
+				now.plusSeconds(30));
+		JpaEventPublication unlimited = JpaEventPublication.of(now, "listener", "3", eventTypeId);
+
+		repository.create(expired);
+		repository.create(pending);
+		repository.create(unlimited);
+
+		assertThat(repository.findByCompletionDateIsNull(now)).containsExactlyInAnyOrder(pending, unlimited);
+		assertThat(repository.findByListenerIdAndCompletionDateIsNull("listener", now, 10))
+				.containsExactlyInAnyOrder(pending, unlimited);
+
+		assertThat(repository.markExpiredCompleted(now)).isEqualTo(1);
+		assertThat(repository.markExpiredCompleted(now)).isZero();
+	}
+
+	@Test
+	void pagesThroughIncompletePublicationsInInsertionOrder() {
+
+		Integer eventTypeId = repository.createEventType(Object.class.getName());
+		Instant now = Instant.now();
+
+		JpaEventPublication first = repository.create(JpaEventPublication.of(now, "listener", "1", eventTypeId));
+		JpaEventPublication second = repository.create(JpaEventPublication.of(now, "listener", "2", eventTypeId));
+		JpaEventPublication third = repository.create(JpaEventPublication.of(now, "listener", "3", eventTypeId));
+
+		assertThat(repository.findIncompleteAfter(null, now, 2)).containsExactly(first, second);
+		assertThat(repository.findIncompleteAfter(second.getId(), now, 2)).containsExactly(third);
+		assertThat(repository.findIncompleteAfter(third.getId(), now, 2)).isEmpty();
+	}
+
+	@Test
+	void looksUpRegisteredEventTypes() {
+
+		Integer eventTypeId = repository.createEventType(Object.class.getName());
+
+		assertThat(repository.findEventTypeById(eventTypeId)).map(JpaEventType::getName).hasValue(Object.class.getName());
+		assertThat(repository.findEventTypeByName(Object.class.getName())).map(JpaEventType::getId).hasValue(eventTypeId);
+		assertThat(repository.findEventTypeByName(String.class.getName())).isEmpty();
+	}
+
+	@Test
+	void summarizesIncompletePublications() {
+
+		Integer objectTypeId = repository.createEventType(Object.class.getName());
+		Integer stringTypeId = repository.createEventType(String.class.getName());
+		Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+		repository.create(JpaEventPublication.of(now.minusSeconds(60), "first", "1", objectTypeId));
+		repository.create(JpaEventPublication.of(now, "first", "2", objectTypeId));
+		repository.create(JpaEventPublication.of(now, "second", "3", stringTypeId));
+		repository.create(JpaEventPublication.of(now, "second", "4", stringTypeId).markCompleted());
+
+		assertThat(repository.findBacklog()).containsExactlyInAnyOrder( //
+				EventPublicationBacklog.Entry.of(Object.class.getName(), PublicationTargetIdentifier.of("first"), 2,
+						now.minusSeconds(60)),
+				EventPublicationBacklog.Entry.of(String.class.getName(), PublicationTargetIdentifier.of("second"), 1, now));
 	}
 }
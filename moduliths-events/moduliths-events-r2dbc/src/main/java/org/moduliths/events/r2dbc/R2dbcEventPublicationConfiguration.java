@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.r2dbc;
+
+import org.moduliths.events.EventSerializer;
+import org.moduliths.events.config.EventPublicationConfigurationExtension;
+import org.moduliths.events.support.DeduplicationKeyResolver;
+import org.moduliths.events.support.TimeToLiveResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Registers the {@link R2dbcEventPublicationRegistry}. Note that the
+ * {@link org.moduliths.events.support.PersistentApplicationEventMulticaster} dispatches events synchronously and thus
+ * only works with a blocking {@link org.moduliths.events.EventPublicationRegistry}, i.e. it does not use the registry
+ * registered here. Reactive applications have to inject the
+ * {@link org.moduliths.events.ReactiveEventPublicationRegistry} and store, complete and look up publications as part of
+ * their reactive pipelines themselves.
+ *
+ * @author Oliver Drotbohm
+ */
+@Configuration(proxyBeanMethods = false)
+class R2dbcEventPublicationConfiguration implements EventPublicationConfigurationExtension {
+
+	@Bean
+	public R2dbcEventPublicationRegistry r2dbcEventPublicationRegistry(DatabaseClient client,
+			EventSerializer serializer, Environment environment) {
+		return new R2dbcEventPublicationRegistry(client, serializer, new DeduplicationKeyResolver(),
+				TimeToLiveResolver.of(environment));
+	}
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.r2dbc;
+
+import io.r2dbc.spi.Row;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.moduliths.events.CompletableEventPublication;
+import org.moduliths.events.EventPublication;
+import org.moduliths.events.EventSerializer;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.ReactiveEventPublicationRegistry;
+import org.moduliths.events.support.DeduplicationKeyResolver;
+import org.moduliths.events.support.StoredEvent;
+import org.moduliths.events.support.TimeOrderedIdGenerator;
+import org.moduliths.events.support.TimeToLiveResolver;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.IdGenerator;
+
+/**
+ * R2DBC based {@link ReactiveEventPublicationRegistry}. Expects the {@code EVENT_PUBLICATION} table declared in
+ * {@value #SCHEMA} to be present. Its unique index on the deduplication key and listener identifier rejects
+ * duplicates of incomplete publications, completing a publication clears its deduplication key. Publications of event
+ * types with a time-to-live carry the date they expire at and are skipped when looking up incomplete publications
+ * once expired.
+ *
+ * @author Oliver Drotbohm
+ */
+@Slf4j
+@RequiredArgsConstructor
+class R2dbcEventPublicationRegistry implements ReactiveEventPublicationRegistry {
+
+	static final String SCHEMA = "org/moduliths/events/r2dbc/schema.sql";
+
+	private static final String SQL_INSERT = "INSERT INTO EVENT_PUBLICATION " //
+			+ "(ID, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT, SERIALIZER_ID, DEDUPLICATION_KEY, " //
+			+ "EXPIRATION_DATE) " //
+			+ "VALUES (:id, :eventType, :listenerId, :publicationDate, :serializedEvent, :serializerId, :deduplicationKey, " //
+			+ ":expirationDate)";
+
+	private static final int PAGE_SIZE = 500;
+
+	private static final String SQL_FIND_INCOMPLETE = "SELECT ID, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, " //
+			+ "SERIALIZED_EVENT, SERIALIZER_ID FROM EVENT_PUBLICATION WHERE COMPLETION_DATE IS NULL " //
+			+ "AND (EXPIRATION_DATE IS NULL OR EXPIRATION_DATE > :reference) " //
+			+ "ORDER BY ID ASC LIMIT :limit";
+
+	private static final String SQL_FIND_INCOMPLETE_AFTER = "SELECT ID, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, " //
+			+ "SERIALIZED_EVENT, SERIALIZER_ID FROM EVENT_PUBLICATION WHERE COMPLETION_DATE IS NULL " //
+			+ "AND (EXPIRATION_DATE IS NULL OR EXPIRATION_DATE > :reference) AND ID > :lastId " //
+			+ "ORDER BY ID ASC LIMIT :limit";
+
+	private static final String SQL_FIND_INCOMPLETE_BY_LISTENER = "SELECT ID, EVENT_TYPE, LISTENER_ID, " //
+			+ "PUBLICATION_DATE, SERIALIZED_EVENT, SERIALIZER_ID FROM EVENT_PUBLICATION " //
+			+ "WHERE LISTENER_ID = :listenerId AND COMPLETION_DATE IS NULL " //
+			+ "AND (EXPIRATION_DATE IS NULL OR EXPIRATION_DATE > :reference) " //
+			+ "ORDER BY PUBLICATION_DATE ASC LIMIT :limit";
+
+	private static final String SQL_COMPLETE_BY_DEDUPLICATION_KEY = "UPDATE EVENT_PUBLICATION " //
+			+ "SET COMPLETION_DATE = :completionDate, DEDUPLICATION_KEY = NULL " //
+			+ "WHERE DEDUPLICATION_KEY = :deduplicationKey AND LISTENER_ID = :listenerId AND COMPLETION_DATE IS NULL";
+
+	private static final String SQL_COMPLETE_BY_SERIALIZED_EVENT = "UPDATE EVENT_PUBLICATION " //
+			+ "SET COMPLETION_DATE = :completionDate, DEDUPLICATION_KEY = NULL " //
+			+ "WHERE SERIALIZED_EVENT = :serializedEvent AND LISTENER_ID = :listenerId AND COMPLETION_DATE IS NULL";
+
+	private static final String SQL_COMPLETE_BY_ID = "UPDATE EVENT_PUBLICATION " //
+			+ "SET COMPLETION_DATE = :completionDate, DEDUPLICATION_KEY = NULL " //
+			+ "WHERE ID = :id AND COMPLETION_DATE IS NULL";
+
+	private static final String SQL_COMPLETE_EXPIRED = "UPDATE EVENT_PUBLICATION " //
+			+ "SET COMPLETION_DATE = :reference, DEDUPLICATION_KEY = NULL " //
+			+ "WHERE COMPLETION_DATE IS NULL AND EXPIRATION_DATE <= :reference";
+
+	private static final String SAVEPOINT = "EVENT_PUBLICATION_DEDUPLICATION";
+
+	private final @NonNull DatabaseClient client;
+	private final @NonNull EventSerializer serializer;
+	private final @NonNull DeduplicationKeyResolver deduplicationKeys;
+	private final @NonNull TimeToLiveResolver timeToLives;
+	private final IdGenerator ids = new TimeOrderedIdGenerator();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.ReactiveEventPublicationRegistry#store(java.lang.Object, reactor.core.publisher.Flux)
+	 */
+	@Override
+	public Mono<Void> store(Object event, Flux<PublicationTargetIdentifier> listeners) {
+
+		Assert.notNull(event, "Domain event must not be null!");
+		Assert.notNull(listeners, "Listeners must not be null!");
+
+		return Mono.defer(() -> {
+
+			Object serializedEvent = serializer.serialize(event);
+			StoredEvent storedEvent = StoredEvent.encode(serializedEvent,
+					serializer.getSerializerId(event.getClass()).orElse(null));
+
+			Optional<String> deduplicationKey = deduplicationKeys.resolve(event, () -> serializedEvent);
+
+			return listeners.map(it -> CompletableEventPublication.of(event, it)) //
+					.concatMap(it -> deduplicationKey.isPresent() //
+							? insertUnlessDuplicate(it, storedEvent, deduplicationKey.get()) //
+							: insert(it, storedEvent, deduplicationKey)) //
+					.then();
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.ReactiveEventPublicationRegistry#markCompleted(java.lang.Object, org.moduliths.events.PublicationTargetIdentifier)
+	 */
+	@Override
+	public Mono<Void> markCompleted(Object event, PublicationTargetIdentifier listener) {
+
+		Assert.notNull(event, "Domain event must not be null!");
+		Assert.notNull(listener, "Listener identifier must not be null!");
+
+		return Mono.defer(() -> {
+
+			Object serializedEvent = serializer.serialize(event);
+
+			GenericExecuteSpec spec = deduplicationKeys.resolve(event, () -> serializedEvent) //
+					.map(it -> client.sql(SQL_COMPLETE_BY_DEDUPLICATION_KEY).bind("deduplicationKey", it)) //
+					.orElseGet(() -> client.sql(SQL_COMPLETE_BY_SERIALIZED_EVENT) //
+							.bind("serializedEvent", StoredEvent.encode(serializedEvent, null).getSerializedEvent()));
+
+			return spec.bind("listenerId", listener.toString()) //
+					.bind("completionDate", Instant.now()) //
+					.fetch() //
+					.rowsUpdated() //
+					.doOnNext(it -> LOG.debug("Marked {} publication(s) of event {} to listener {} completed.", it,
+							event.getClass(), listener)) //
+					.then();
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.ReactiveEventPublicationRegistry#markCompleted(org.moduliths.events.EventPublication)
+	 */
+	@Override
+	public Mono<Void> markCompleted(EventPublication publication) {
+
+		Assert.notNull(publication, "Publication must not be null!");
+
+		if (!R2dbcEventPublication.class.isInstance(publication)) {
+			return ReactiveEventPublicationRegistry.super.markCompleted(publication);
+		}
+
+		UUID id = R2dbcEventPublication.class.cast(publication).getId();
+
+		return client.sql(SQL_COMPLETE_BY_ID) //
+				.bind("id", id) //
+				.bind("completionDate", Instant.now()) //
+				.fetch() //
+				.rowsUpdated() //
+				.doOnNext(it -> LOG.debug("Marked publication with id {} completed.", id)) //
+				.then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.ReactiveEventPublicationRegistry#closeExpiredPublications()
+	 */
+	@Override
+	public Mono<Long> closeExpiredPublications() {
+
+		return Mono.defer(() -> client.sql(SQL_COMPLETE_EXPIRED) //
+				.bind("reference", Instant.now()) //
+				.fetch() //
+				.rowsUpdated() //
+				.map(Integer::longValue) //
+				.doOnNext(it -> LOG.debug("Closed {} expired publications.", it)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.ReactiveEventPublicationRegistry#findIncompletePublications()
+	 */
+	@Override
+	public Flux<EventPublication> findIncompletePublications() {
+
+		return Flux.defer(() -> {
+
+			Instant reference = Instant.now();
+
+			return findIncompleteAfter(null, reference, PAGE_SIZE) //
+					.collectList() //
+					.expand(it -> it.size() < PAGE_SIZE //
+							? Mono.empty() //
+							: findIncompleteAfter(it.get(it.size() - 1).getId(), reference, PAGE_SIZE).collectList()) //
+					.flatMapIterable(it -> it);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.moduliths.events.ReactiveEventPublicationRegistry#findIncompletePublications(org.moduliths.events.PublicationTargetIdentifier, int)
+	 */
+	@Override
+	public Flux<EventPublication> findIncompletePublications(PublicationTargetIdentifier listener, int limit) {
+
+		Assert.notNull(listener, "Listener must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return client.sql(SQL_FIND_INCOMPLETE_BY_LISTENER) //
+				.bind("listenerId", listener.toString()) //
+				.bind("reference", Instant.now()) //
+				.bind("limit", limit) //
+				.<EventPublication> map(this::toPublication) //
+				.all();
+	}
+
+	/**
+	 * Returns the next page of {@link EventPublication}s that have not been completed yet and have not expired before the
+	 * given date, ordered by their time-ordered identifiers, i.e. in insertion order. Pages are looked up by the
+	 * identifier of the last publication of the previous page so that the primary key index can be used to skip the
+	 * publications already seen.
+	 *
+	 * @param lastId the identifier of the last publication of the previous page, {@literal null} for the first page.
+	 * @param reference must not be {@literal null}.
+	 * @param limit the maximum number of publications to return.
+	 * @return will never be {@literal null}.
+	 */
+	Flux<R2dbcEventPublication> findIncompleteAfter(@Nullable UUID lastId, Instant reference, int limit) {
+
+		GenericExecuteSpec spec = lastId == null //
+				? client.sql(SQL_FIND_INCOMPLETE) //
+				: client.sql(SQL_FIND_INCOMPLETE_AFTER).bind("lastId", lastId);
+
+		return spec.bind("reference", reference) //
+				.bind("limit", limit) //
+				.map(this::toPublication) //
+				.all();
+	}
+
+	/**
+	 * Inserts the given {@link EventPublication} unless the unique index on the deduplication key and listener identifier
+	 * rejects it as a duplicate of an incomplete publication. Within a transaction, the insert is guarded by a savepoint
+	 * so that the rejected insert doesn't abort the transaction.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @param storedEvent must not be {@literal null}.
+	 * @param deduplicationKey must not be {@literal null}.
+	 * @return
+	 */
+	private Mono<Void> insertUnlessDuplicate(EventPublication publication, StoredEvent storedEvent,
+			String deduplicationKey) {
+
+		Mono<Void> insert = insert(publication, storedEvent, Optional.of(deduplicationKey));
+
+		return client.inConnection(connection -> connection.isAutoCommit() //
+				? insert //
+				: Mono.defer(() -> Mono.from(connection.createSavepoint(SAVEPOINT))) //
+						.then(insert) //
+						.then(Mono.defer(() -> Mono.from(connection.releaseSavepoint(SAVEPOINT)))) //
+						.onErrorResume(DataIntegrityViolationException.class, o_O -> Mono //
+								.defer(() -> Mono.from(connection.rollbackTransactionToSavepoint(SAVEPOINT))) //
+								.then(Mono.error(o_O)))) //
+				.onErrorResume(DataIntegrityViolationException.class, o_O -> {
+
+					LOG.debug("Skipping duplicate publication of {} with deduplication key {} for {}.", //
+							publication.getEvent().getClass(), deduplicationKey, publication.getTargetIdentifier());
+
+					return Mono.empty();
+				});
+	}
+
+	private Mono<Void> insert(EventPublication publication, StoredEvent storedEvent, Optional<String> deduplicationKey) {
+
+		UUID id = ids.generateId();
+		Class<?> eventType = publication.getEvent().getClass();
+
+		LOG.debug("Registering publication of {} with id {} for {}.", //
+				eventType, id, publication.getTargetIdentifier());
+
+		GenericExecuteSpec spec = client.sql(SQL_INSERT) //
+				.bind("id", id) //
+				.bind("eventType", eventType.getName()) //
+				.bind("listenerId", publication.getTargetIdentifier().toString()) //
+				.bind("publicationDate", publication.getPublicationDate()) //
+				.bind("serializedEvent", storedEvent.getSerializedEvent());
+
+		spec = deduplicationKey.isPresent() //
+				? spec.bind("deduplicationKey", deduplicationKey.get()) //
+				: spec.bindNull("deduplicationKey", String.class);
+
+		Optional<Instant> expirationDate = timeToLives.getExpirationDate(publication);
+
+		spec = expirationDate.isPresent() //
+				? spec.bind("expirationDate", expirationDate.get()) //
+				: spec.bindNull("expirationDate", Instant.class);
+
+		String serializerId = storedEvent.getSerializerId();
+
+		spec = serializerId != null //
+				? spec.bind("serializerId", serializerId) //
+				: spec.bindNull("serializerId", String.class);
+
+		return spec.then();
+	}
+
+	private R2dbcEventPublication toPublication(Row row) {
+
+		Class<?> eventType = ClassUtils.resolveClassName(row.get("EVENT_TYPE", String.class), null);
+		Object event = StoredEvent.of(row.get("SERIALIZED_EVENT", String.class), row.get("SERIALIZER_ID", String.class)) //
+				.deserialize(serializer, eventType);
+
+		return R2dbcEventPublication.of(row.get("ID", UUID.class), event,
+				PublicationTargetIdentifier.of(row.get("LISTENER_ID", String.class)),
+				row.get("PUBLICATION_DATE", Instant.class));
+	}
+
+	/**
+	 * An {@link EventPublication} read from the database.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value(staticConstructor = "of")
+	static class R2dbcEventPublication implements EventPublication {
+
+		UUID id;
+		Object event;
+		PublicationTargetIdentifier targetIdentifier;
+		Instant publicationDate;
+	}
+}
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION (
+	ID UUID NOT NULL,
+	EVENT_TYPE VARCHAR(512) NOT NULL,
+	LISTENER_ID VARCHAR(512) NOT NULL,
+	PUBLICATION_DATE TIMESTAMP WITH TIME ZONE NOT NULL,
+	SERIALIZED_EVENT VARCHAR(4000) NOT NULL,
+	SERIALIZER_ID VARCHAR(255),
+	DEDUPLICATION_KEY VARCHAR(255),
+	EXPIRATION_DATE TIMESTAMP WITH TIME ZONE,
+	COMPLETION_DATE TIMESTAMP WITH TIME ZONE,
+	PRIMARY KEY (ID)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS EVENT_PUBLICATION_DEDUPLICATION_IDX ON EVENT_PUBLICATION (DEDUPLICATION_KEY, LISTENER_ID);
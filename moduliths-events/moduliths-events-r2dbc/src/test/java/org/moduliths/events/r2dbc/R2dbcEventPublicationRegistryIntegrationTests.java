@@ -0,0 +1,244 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.r2dbc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.Value;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.DeduplicationKey;
+import org.moduliths.events.EventPublication;
+import org.moduliths.events.EventSerializer;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.support.DeduplicationKeyResolver;
+import org.moduliths.events.support.TimeToLiveResolver;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Integration tests for {@link R2dbcEventPublicationRegistry} against an embedded H2 database.
+ *
+ * @author Oliver Drotbohm
+ */
+class R2dbcEventPublicationRegistryIntegrationTests {
+
+	static final PublicationTargetIdentifier FIRST = PublicationTargetIdentifier.of("first");
+	static final PublicationTargetIdentifier SECOND = PublicationTargetIdentifier.of("second");
+
+	EventSerializer serializer = mock(EventSerializer.class);
+	ConnectionFactory connectionFactory;
+	R2dbcEventPublicationRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+
+		this.connectionFactory = H2ConnectionFactory.inMemory(UUID.randomUUID().toString());
+
+		new ResourceDatabasePopulator(new ClassPathResource(R2dbcEventPublicationRegistry.SCHEMA)) //
+				.populate(connectionFactory) //
+				.block();
+
+		TimeToLiveResolver timeToLives = new TimeToLiveResolver(type -> type.equals(Long.class) //
+				? Optional.of(Duration.ofMinutes(-1)) //
+				: Optional.empty());
+
+		this.registry = new R2dbcEventPublicationRegistry(DatabaseClient.create(connectionFactory), serializer,
+				new DeduplicationKeyResolver(), timeToLives);
+
+		doAnswer(it -> it.getArgument(0).toString()).when(serializer).serialize(any());
+		doAnswer(it -> it.getArgument(0)).when(serializer).deserialize(any(), any(), any());
+	}
+
+	@Test
+	void rejectsEventsNotSerializedIntoStringsOrByteArrays() {
+
+		doReturn(42L).when(serializer).serialize(42);
+
+		StepVerifier.create(registry.store(42, Flux.just(FIRST))) //
+				.verifyError(IllegalArgumentException.class);
+	}
+
+	@Test
+	void storesEventsSerializedIntoByteArrays() {
+
+		doReturn(new byte[] { 42 }).when(serializer).serialize(42);
+		doReturn(Optional.of("binary")).when(serializer).getSerializerId(Integer.class);
+		doReturn(42).when(serializer).deserialize(aryEq(new byte[] { 42 }), eq(Integer.class), eq("binary"));
+
+		StepVerifier.create(registry.store(42, Flux.just(FIRST)) //
+				.thenMany(registry.findIncompletePublications()) //
+				.map(EventPublication::getEvent)) //
+				.expectNext(42) //
+				.verifyComplete();
+
+		StepVerifier.create(registry.markCompleted(42, FIRST) //
+				.thenMany(registry.findIncompletePublications())) //
+				.verifyComplete();
+	}
+
+	@Test
+	void storesPublicationsForAllListeners() {
+
+		StepVerifier.create(registry.store("event", Flux.just(FIRST, SECOND))) //
+				.verifyComplete();
+
+		StepVerifier.create(registry.findIncompletePublications()) //
+				.expectNextCount(2) //
+				.verifyComplete();
+	}
+
+	@Test
+	void marksPublicationCompletedForEventAndListener() {
+
+		StepVerifier.create(registry.store("event", Flux.just(FIRST, SECOND)) //
+				.then(registry.markCompleted("event", FIRST))) //
+				.verifyComplete();
+
+		StepVerifier.create(registry.findIncompletePublications()) //
+				.assertNext(it -> {
+					assertThat(it.getEvent()).isEqualTo("event");
+					assertThat(it.getTargetIdentifier()).isEqualTo(SECOND);
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void marksReadPublicationCompletedById() {
+
+		StepVerifier.create(registry.store("event", Flux.just(FIRST)) //
+				.thenMany(registry.findIncompletePublications()) //
+				.concatMap(registry::markCompleted) //
+				.thenMany(registry.findIncompletePublications())) //
+				.verifyComplete();
+	}
+
+	@Test
+	void pagesThroughIncompletePublicationsInInsertionOrder() {
+
+		Instant now = Instant.now();
+
+		StepVerifier.create(registry.store("first", Flux.just(FIRST)) //
+				.then(registry.store("second", Flux.just(FIRST))) //
+				.then(registry.store("third", Flux.just(FIRST))) //
+				.thenMany(registry.findIncompleteAfter(null, now, 2)) //
+				.map(EventPublication::getEvent)) //
+				.expectNext("first", "second") //
+				.verifyComplete();
+
+		UUID secondId = registry.findIncompleteAfter(null, now, 2).blockLast().getId();
+
+		StepVerifier.create(registry.findIncompleteAfter(secondId, now, 2) //
+				.map(EventPublication::getEvent)) //
+				.expectNext("third") //
+				.verifyComplete();
+
+		StepVerifier.create(registry.findIncompletePublications() //
+				.map(EventPublication::getEvent)) //
+				.expectNext("first", "second", "third") //
+				.verifyComplete();
+	}
+
+	@Test
+	void findsOldestIncompletePublicationsForListener() {
+
+		StepVerifier.create(registry.store("first", Flux.just(FIRST, SECOND)) //
+				.then(registry.store("second", Flux.just(FIRST))) //
+				.then(registry.store("third", Flux.just(FIRST))) //
+				.thenMany(registry.findIncompletePublications(FIRST, 2)) //
+				.map(EventPublication::getEvent)) //
+				.expectNext("first", "second") //
+				.verifyComplete();
+	}
+
+	@Test
+	void skipsAndClosesExpiredPublications() {
+
+		StepVerifier.create(registry.store(42L, Flux.just(FIRST)) //
+				.then(registry.store("event", Flux.just(FIRST))) //
+				.thenMany(registry.findIncompletePublications()) //
+				.map(EventPublication::getEvent)) //
+				.expectNext("event") //
+				.verifyComplete();
+
+		StepVerifier.create(registry.findIncompletePublications(FIRST, 10) //
+				.map(EventPublication::getEvent)) //
+				.expectNext("event") //
+				.verifyComplete();
+
+		StepVerifier.create(registry.closeExpiredPublications() //
+				.concatWith(registry.closeExpiredPublications())) //
+				.expectNext(1L, 0L) //
+				.verifyComplete();
+	}
+
+	@Test
+	void skipsPublicationsWithDeduplicationKeyOfIncompletePublication() {
+
+		StepVerifier.create(registry.store(KeyedEvent.of("key"), Flux.just(FIRST)) //
+				.then(registry.store(KeyedEvent.of("key"), Flux.just(FIRST, SECOND))) //
+				.thenMany(registry.findIncompletePublications()) //
+				.map(EventPublication::getTargetIdentifier)) //
+				.expectNext(FIRST, SECOND) //
+				.verifyComplete();
+	}
+
+	@Test
+	void skipsDuplicatePublicationsWithinTransaction() {
+
+		TransactionalOperator transactions = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+
+		StepVerifier.create(registry.store(KeyedEvent.of("key"), Flux.just(FIRST)) //
+				.then(registry.store(KeyedEvent.of("key"), Flux.just(FIRST, SECOND))) //
+				.then(registry.store("event", Flux.just(FIRST))) //
+				.as(transactions::transactional) //
+				.thenMany(registry.findIncompletePublications())) //
+				.expectNextCount(3) //
+				.verifyComplete();
+	}
+
+	@Test
+	void storesPublicationWithDeduplicationKeyOfCompletedPublication() {
+
+		StepVerifier.create(registry.store(KeyedEvent.of("key"), Flux.just(FIRST)) //
+				.then(registry.markCompleted(KeyedEvent.of("key"), FIRST)) //
+				.then(registry.store(KeyedEvent.of("key"), Flux.just(FIRST))) //
+				.thenMany(registry.findIncompletePublications())) //
+				.expectNextCount(1) //
+				.verifyComplete();
+	}
+
+	@Value(staticConstructor = "of")
+	static class KeyedEvent {
+		@DeduplicationKey String key;
+	}
+}
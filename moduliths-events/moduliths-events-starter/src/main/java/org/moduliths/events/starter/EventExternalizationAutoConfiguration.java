@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.starter;
+
+import org.moduliths.events.externalization.EventExternalizationConfiguration;
+import org.moduliths.events.externalization.EventExternalizationTransport;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Enables event externalization in case an {@link EventExternalizationTransport} is registered in the application
+ * context.
+ *
+ * @author Oliver Drotbohm
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBean(EventExternalizationTransport.class)
+@AutoConfigureAfter(DomainEventsAutoConfiguration.class)
+@Import(EventExternalizationConfiguration.class)
+public class EventExternalizationAutoConfiguration {}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.starter;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.moduliths.events.EventPublicationBacklog;
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.support.PersistentApplicationEventMulticaster;
+import org.moduliths.events.support.ResubmissionProgress;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Actuator endpoint exposing the backlog of incomplete event publications grouped by listener and event type as well
+ * as the progress of the current or most recent resubmission. Allows operators to resubmit a bounded batch of
+ * incomplete publications for a single listener.
+ *
+ * @author Oliver Drotbohm
+ */
+@Endpoint(id = "eventpublications")
+@RequiredArgsConstructor
+public class EventPublicationsEndpoint {
+
+	static final int DEFAULT_BATCH_SIZE = 100;
+	static final int MAX_BATCH_SIZE = 1000;
+
+	private final @NonNull EventPublicationRegistry registry;
+	private final @NonNull PersistentApplicationEventMulticaster multicaster;
+
+	/**
+	 * Returns the backlog of incomplete publications and the current resubmission progress.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@ReadOperation
+	public BacklogDescriptor backlog() {
+
+		ResubmissionDescriptor resubmission = multicaster.getResubmissionProgress() //
+				.map(ResubmissionDescriptor::of) //
+				.orElse(null);
+
+		return BacklogDescriptor.of(registry.getBacklog(), resubmission);
+	}
+
+	/**
+	 * Resubmits the oldest incomplete publications to the given listener.
+	 *
+	 * @param listener the identifier of the listener to resubmit publications to, must not be {@literal null} or empty.
+	 * @param limit the maximum number of publications to resubmit, defaults to {@value #DEFAULT_BATCH_SIZE} and must not
+	 *          exceed {@value #MAX_BATCH_SIZE}.
+	 * @return the {@link ResubmissionProgress} after the resubmission.
+	 */
+	@WriteOperation
+	public ResubmissionDescriptor resubmit(String listener, @Nullable Integer limit) {
+
+		Assert.hasText(listener, "Listener must not be null or empty!");
+
+		int batchSize = limit == null ? DEFAULT_BATCH_SIZE : limit;
+
+		Assert.isTrue(batchSize > 0 && batchSize <= MAX_BATCH_SIZE,
+				() -> String.format("Limit must be between 1 and %s!", MAX_BATCH_SIZE));
+
+		return ResubmissionDescriptor.of(
+				multicaster.resubmitIncompletePublications(PublicationTargetIdentifier.of(listener), batchSize));
+	}
+
+	@Value
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class BacklogDescriptor {
+
+		long total;
+		@Nullable Instant oldestPublicationDate;
+		List<ListenerDescriptor> listeners;
+		@Nullable ResubmissionDescriptor resubmission;
+
+		static BacklogDescriptor of(EventPublicationBacklog backlog, @Nullable ResubmissionDescriptor resubmission) {
+
+			Map<PublicationTargetIdentifier, List<EventPublicationBacklog.Entry>> byListener = new LinkedHashMap<>();
+
+			backlog.forEach(it -> byListener.computeIfAbsent(it.getListener(), __ -> new ArrayList<>()).add(it));
+
+			List<ListenerDescriptor> listeners = byListener.entrySet().stream() //
+					.map(it -> ListenerDescriptor.of(it.getKey(), it.getValue())) //
+					.collect(Collectors.toList());
+
+			return new BacklogDescriptor(backlog.getTotal(), backlog.getOldestPublicationDate().orElse(null), listeners,
+					resubmission);
+		}
+	}
+
+	@Value
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class ListenerDescriptor {
+
+		String listener;
+		long total;
+		Instant oldestPublicationDate;
+		List<EventTypeDescriptor> eventTypes;
+
+		static ListenerDescriptor of(PublicationTargetIdentifier listener, List<EventPublicationBacklog.Entry> entries) {
+
+			List<EventTypeDescriptor> eventTypes = entries.stream() //
+					.map(it -> new EventTypeDescriptor(it.getEventType(), it.getCount(), it.getOldestPublicationDate())) //
+					.collect(Collectors.toList());
+
+			// Entries are ordered by age already
+			Instant oldest = entries.get(0).getOldestPublicationDate();
+			long total = entries.stream().mapToLong(EventPublicationBacklog.Entry::getCount).sum();
+
+			return new ListenerDescriptor(listener.getValue(), total, oldest, eventTypes);
+		}
+	}
+
+	@Value
+	public static class EventTypeDescriptor {
+
+		String eventType;
+		long count;
+		Instant oldestPublicationDate;
+	}
+
+	@Value
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class ResubmissionDescriptor {
+
+		@Nullable String listener;
+		long total, resubmitted, failed, skipped, remaining;
+		boolean running;
+		Instant startDate;
+		@Nullable Instant completionDate;
+
+		static ResubmissionDescriptor of(ResubmissionProgress progress) {
+
+			return new ResubmissionDescriptor(progress.getListener().map(PublicationTargetIdentifier::getValue).orElse(null),
+					progress.getTotal(), progress.getResubmitted(), progress.getFailed(), progress.getSkipped(),
+					progress.getRemaining(), progress.isRunning(), progress.getStartDate(),
+					progress.getCompletionDate().orElse(null));
+		}
+	}
+}
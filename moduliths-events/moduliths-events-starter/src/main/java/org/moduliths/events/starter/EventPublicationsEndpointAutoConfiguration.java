@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.starter;
+
+import org.moduliths.events.EventPublicationRegistry;
+import org.moduliths.events.support.PersistentApplicationEventMulticaster;
+import org.moduliths.events.support.PublicationBackpressure;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration for the {@link EventPublicationsEndpoint}. The endpoint uses the {@link EventPublicationRegistry}
+ * tracked by the {@link PublicationBackpressure} so that calculating the backlog re-synchronizes the number of
+ * outstanding publications.
+ *
+ * @author Oliver Drotbohm
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(Endpoint.class)
+@AutoConfigureAfter(DomainEventsAutoConfiguration.class)
+public class EventPublicationsEndpointAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnAvailableEndpoint
+	@ConditionalOnBean({ EventPublicationRegistry.class, PersistentApplicationEventMulticaster.class })
+	EventPublicationsEndpoint eventPublicationsEndpoint(EventPublicationRegistry registry,
+			PersistentApplicationEventMulticaster multicaster, ObjectProvider<PublicationBackpressure> backpressure) {
+
+		EventPublicationRegistry tracked = backpressure.getIfAvailable(PublicationBackpressure::unbounded).track(registry);
+
+		return new EventPublicationsEndpoint(tracked, multicaster);
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.moduliths.events.starter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.moduliths.events.PublicationTargetIdentifier;
+import org.moduliths.events.starter.EventPublicationsEndpoint.BacklogDescriptor;
+import org.moduliths.events.starter.EventPublicationsEndpoint.ResubmissionDescriptor;
+import org.moduliths.events.support.MapEventPublicationRegistry;
+import org.moduliths.events.support.PersistentApplicationEventMulticaster;
+
+/**
+ * Unit tests for {@link EventPublicationsEndpoint}.
+ *
+ * @author Oliver Drotbohm
+ */
+class EventPublicationsEndpointUnitTests {
+
+	PublicationTargetIdentifier first = PublicationTargetIdentifier.of("first");
+	PublicationTargetIdentifier second = PublicationTargetIdentifier.of("second");
+
+	MapEventPublicationRegistry registry = new MapEventPublicationRegistry();
+	PersistentApplicationEventMulticaster multicaster = new PersistentApplicationEventMulticaster(() -> registry);
+	EventPublicationsEndpoint endpoint = new EventPublicationsEndpoint(registry, multicaster);
+
+	@Test
+	void exposesBacklogGroupedByListener() {
+
+		registry.store("foo", Stream.of(first, second));
+		registry.store(42L, Stream.of(first));
+
+		BacklogDescriptor backlog = endpoint.backlog();
+
+		assertThat(backlog.getTotal()).isEqualTo(3);
+		assertThat(backlog.getOldestPublicationDate()).isNotNull();
+		assertThat(backlog.getResubmission()).isNull();
+		assertThat(backlog.getListeners()).hasSize(2);
+		assertThat(backlog.getListeners()).filteredOn(it -> it.getListener().equals("first")) //
+				.element(0).satisfies(it -> {
+					assertThat(it.getTotal()).isEqualTo(2);
+					assertThat(it.getEventTypes()).hasSize(2);
+				});
+	}
+
+	@Test
+	void resubmitsBoundedBatchForListener() {
+
+		registry.store("foo", Stream.of(first, second));
+		registry.store("bar", Stream.of(first));
+		registry.store("baz", Stream.of(first));
+
+		ResubmissionDescriptor result = endpoint.resubmit("first", 2);
+
+		assertThat(result.getListener()).isEqualTo("first");
+		assertThat(result.getTotal()).isEqualTo(2);
+		assertThat(result.isRunning()).isFalse();
+
+		// No listener registered with the multicaster
+		assertThat(result.getSkipped()).isEqualTo(2);
+		assertThat(endpoint.backlog().getResubmission()).isEqualTo(result);
+	}
+
+	@Test
+	void rejectsInvalidBatchSizes() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> endpoint.resubmit("first", 0));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> endpoint.resubmit("first", EventPublicationsEndpoint.MAX_BATCH_SIZE + 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> endpoint.resubmit("", null));
+	}
+}
@@ -35,6 +35,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * @author Oliver Gierke
@@ -99,6 +100,23 @@ class PersistentDomainEventIntegrationTest {
 		context.close();
 	}
 
+	@Test
+	void closesExpiredPublicationsWithoutSurroundingTransaction() {
+
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(ApplicationConfiguration.class, InfrastructureConfiguration.class);
+
+		try {
+
+			assertThatCode(context::refresh).doesNotThrowAnyException();
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+			assertThat(context.getBean(EventPublicationRegistry.class).closeExpiredPublications()).isZero();
+
+		} finally {
+			context.close();
+		}
+	}
+
 	@Configuration
 	@EnableAsync
 	@EnablePersistentDomainEvents
@@ -17,17 +17,27 @@ package org.moduliths.model;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.moduliths.model.Module.DependencyDepth;
 import org.moduliths.model.Module.DependencyType;
 
 import com.acme.myproject.Application;
 import com.acme.myproject.complex.internal.FirstTypeBasedPort;
 import com.acme.myproject.complex.internal.SecondTypeBasePort;
+import com.acme.myproject.moduleA.ServiceComponentA;
 import com.acme.myproject.moduleA.SomeConfigurationA.SomeAtBeanComponentA;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
 
 /**
  * @author Oliver Gierke
@@ -152,4 +162,126 @@ class ModulesIntegrationTest {
 		assertThat(fromPackage.stream().map(Module::getName)) //
 				.containsExactlyInAnyOrderElementsOf(modules.stream().map(Module::getName).collect(Collectors.toList()));
 	}
+
+	@Test
+	void resolvesModuleByType() {
+
+		Optional<Module> moduleA = modules.getModuleByName("moduleA");
+
+		assertThat(modules.getModuleByType(ServiceComponentA.class.getName())).isEqualTo(moduleA);
+		assertThat(modules.getModuleByType(ServiceComponentA.class.getSimpleName())).isEqualTo(moduleA);
+		assertThat(modules.getModuleByType("com.acme.myproject.NonExisting")).isEmpty();
+
+		moduleA.flatMap(it -> it.getType(ServiceComponentA.class.getName())).ifPresent(it -> {
+			assertThat(modules.contains(it)).isTrue();
+			assertThat(modules.getModuleByType(it)).isEqualTo(moduleA);
+		});
+	}
+
+	@Test
+	void createsCachedInstanceOnlyOnceForConcurrentCallers() throws Exception {
+
+		String basePackage = Application.class.getPackage().getName();
+		Callable<Modules> lookup = () -> Modules.of(basePackage);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			Modules.evict(basePackage);
+
+			List<Future<Modules>> results = executor.invokeAll(Collections.nCopies(8, lookup));
+			Modules first = results.get(0).get();
+
+			for (Future<Modules> result : results) {
+				assertThat(result.get()).isSameAs(first);
+			}
+
+			Modules.evict(basePackage);
+
+			assertThat(Modules.of(basePackage)).isNotSameAs(first);
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void detectsSameViolationsInSameOrderInParallelAndSerially() {
+
+		try {
+
+			System.setProperty(Parallelism.PARALLELISM_PROPERTY, "4");
+
+			assertThat(Parallelism.isEnabled()).isTrue();
+
+			Violations parallel = modules.detectViolations();
+
+			System.setProperty(Parallelism.PARALLELISM_PROPERTY, "1");
+
+			assertThat(Parallelism.isEnabled()).isFalse();
+
+			Violations serial = modules.detectViolations();
+
+			assertThat(parallel.getMessages()).hasSizeGreaterThan(1) //
+					.containsExactlyElementsOf(serial.getMessages());
+
+		} finally {
+			System.clearProperty(Parallelism.PARALLELISM_PROPERTY);
+		}
+	}
+
+	@Test
+	void calculatesStableFingerprintsPerModule() {
+
+		JavaClasses classes = new ClassFileImporter().importPackages(Application.class.getPackage().getName());
+
+		ModulesFingerprint first = ModulesFingerprint.of(modules, classes).orElseThrow(IllegalStateException::new);
+		ModulesFingerprint second = ModulesFingerprint.of(modules, classes).orElseThrow(IllegalStateException::new);
+
+		Module moduleA = modules.getModuleByName("moduleA").orElseThrow(IllegalStateException::new);
+		Module moduleB = modules.getModuleByName("moduleB").orElseThrow(IllegalStateException::new);
+
+		assertThat(first.getKey()).isEqualTo(second.getKey());
+		assertThat(first.getKey(moduleA)).isEqualTo(second.getKey(moduleA)) //
+				.isNotEqualTo(first.getKey(moduleB)) //
+				.isNotEqualTo(first.getKey());
+	}
+
+	@Test
+	void exposesMemoizedTypedDependencyGraph() {
+
+		ModuleDependencyGraph graph = modules.getDependencyGraph();
+
+		Module moduleA = modules.getModuleByName("moduleA").orElseThrow(IllegalStateException::new);
+		Module moduleB = modules.getModuleByName("moduleB").orElseThrow(IllegalStateException::new);
+
+		assertThat(modules.getDependencyGraph()).isSameAs(graph);
+		assertThat(graph.getEdges(moduleB)) //
+				.anySatisfy(it -> {
+					assertThat(it.getSource()).isEqualTo(moduleB);
+					assertThat(it.getTarget()).isEqualTo(moduleA);
+					assertThat(it.getType()).isEqualTo(DependencyType.EVENT_LISTENER);
+				});
+		assertThat(graph.getDependencies(moduleB, DependencyType.EVENT_LISTENER)) //
+				.isEqualTo(moduleB.getDependencies(modules, DependencyType.EVENT_LISTENER));
+	}
+
+	@Test
+	void calculatesTransitiveBootstrapDependencies() {
+
+		modules.forEach(module -> {
+
+			List<Module> all = module.getBootstrapDependencies(modules, DependencyDepth.ALL).collect(Collectors.toList());
+			List<Module> immediate = module.getBootstrapDependencies(modules).collect(Collectors.toList());
+
+			assertThat(all).doesNotHaveDuplicates().doesNotContain(module);
+			assertThat(all.subList(0, immediate.size())).isEqualTo(immediate);
+
+			immediate.forEach(dependency -> {
+				assertThat(all).containsAll(dependency.getBootstrapDependencies(modules, DependencyDepth.ALL) //
+						.filter(it -> !it.equals(module)) //
+						.collect(Collectors.toList()));
+			});
+		});
+	}
 }
@@ -23,10 +23,11 @@ import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -48,8 +49,22 @@ import com.tngtech.archunit.thirdparty.com.google.common.base.Suppliers;
 @EqualsAndHashCode(of = "key")
 public class ModuleTestExecution implements Iterable<Module> {
 
-	private static Map<Class<?>, Class<?>> MODULITH_TYPES = new HashMap<>();
-	private static Map<Key, ModuleTestExecution> EXECUTIONS = new HashMap<>();
+	private static Map<Class<?>, Class<?>> MODULITH_TYPES = new ConcurrentHashMap<>();
+	private static final int MAX_EXECUTIONS = 256;
+	private static final Map<Key, ModuleTestExecution> EXECUTIONS = new LinkedHashMap<Key, ModuleTestExecution>(16,
+			0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, ModuleTestExecution> eldest) {
+			return size() > MAX_EXECUTIONS;
+		}
+	};
 
 	private final Key key;
 
@@ -106,8 +121,21 @@ public class ModuleTestExecution implements Iterable<Module> {
 					.orElseThrow(
 							() -> new IllegalStateException(String.format("Package %s is not part of any module!", packageName)));
 
-			return EXECUTIONS.computeIfAbsent(Key.of(module.getBasePackage().getName(), annotation),
-					it -> new ModuleTestExecution(annotation, modules, module));
+			Key key = Key.of(module.getBasePackage().getName(), annotation);
+
+			synchronized (EXECUTIONS) {
+
+				ModuleTestExecution execution = EXECUTIONS.get(key);
+
+				// Replace executions created for a Modules instance evicted from its cache in the meantime
+				if (execution == null || execution.modules != modules) {
+
+					execution = new ModuleTestExecution(annotation, modules, module);
+					EXECUTIONS.put(key, execution);
+				}
+
+				return execution;
+			}
 		};
 	}
 